@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -67,6 +68,7 @@ import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.OnFieldsComparator;
 import org.assertj.core.internal.RecursiveFieldByFieldComparator;
+import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.CheckReturnValue;
@@ -769,7 +771,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingElementComparator(Comparator<? super ELEMENT> elementComparator) {
-    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator));
+    this.iterables = new Iterables(new ComparatorBasedComparisonStrategy(elementComparator),
+                                   iterables.getParallelEvaluationPool());
     // to have the same semantics on base assertions like isEqualTo, we need to use an iterable comparator comparing
     // elements with elementComparator parameter
     objects = new Objects(new IterableElementComparisonStrategy<>(elementComparator));
@@ -787,7 +790,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Override
   @CheckReturnValue
   public SELF usingDefaultElementComparator() {
-    this.iterables = Iterables.instance();
+    this.iterables = iterables.getParallelEvaluationPool() == null ? Iterables.instance()
+        : new Iterables(StandardComparisonStrategy.instance(), iterables.getParallelEvaluationPool());
     return usingDefaultComparator();
   }
 
@@ -1217,7 +1221,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<? extends Tuple>, Tuple, ObjectAssert<Tuple>> extracting(String... propertiesOrFields) {
-    List<Tuple> values = FieldsOrPropertiesExtractor.extract(actual, byName(propertiesOrFields));
+    List<Tuple> values = FieldsOrPropertiesExtractor.extractTuples(actual, propertiesOrFields);
     String extractedDescription = extractedDescriptionOf(propertiesOrFields);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1601,12 +1605,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<? extends Tuple>, Tuple, ObjectAssert<Tuple>> extracting(@SuppressWarnings("unchecked") Function<? super ELEMENT, ?>... extractors) {
-    // combine all extractors into one function
-    Function<ELEMENT, Tuple> tupleExtractor = objectToExtractValueFrom -> new Tuple(Stream.of(extractors)
-                                                                                          .map(extractor -> extractor.apply(objectToExtractValueFrom))
-                                                                                          .toArray());
-    List<Tuple> tuples = stream(actual.spliterator(), false).map(tupleExtractor)
-                                                            .collect(toList());
+    List<Tuple> tuples = FieldsOrPropertiesExtractor.extractTuples(actual, extractors);
     return newListAssertInstanceForMethodsChangingElementType(tuples);
   }
 
@@ -1959,7 +1958,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   protected SELF usingComparisonStrategy(ComparisonStrategy comparisonStrategy) {
-    iterables = new Iterables(comparisonStrategy);
+    iterables = new Iterables(comparisonStrategy, iterables.getParallelEvaluationPool());
     return myself;
   }
 
@@ -2523,7 +2522,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   public SELF filteredOn(Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(predicate).collect(toList());
+    List<? extends ELEMENT> filteredIterable = iterables.filter(actual, predicate);
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 
@@ -2801,6 +2800,50 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return super.withThreadDumpOnError();
   }
 
+  /**
+   * Evaluates elements in parallel on the {@link ForkJoinPool#commonPool() common pool} in the assertions checking
+   * elements one by one against a requirement or a predicate, that is {@link #allSatisfy(Consumer)},
+   * {@link #allMatch(Predicate)}, {@link #noneMatch(Predicate)} and {@link #filteredOn(Predicate)}.
+   * <p>
+   * This is worth it when there are many elements and checking each of them is expensive; requirements and predicates
+   * must then be thread safe. Errors are reported in the iterable order, as if elements had been evaluated sequentially.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThat(signedDocuments).inParallel()
+   *                            .allSatisfy(document -&gt; assertThat(verifySignature(document)).isTrue());</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @see #inParallel(ForkJoinPool)
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Evaluates elements in parallel on the given {@link ForkJoinPool} in the assertions checking elements one by one
+   * against a requirement or a predicate, that is {@link #allSatisfy(Consumer)}, {@link #allMatch(Predicate)},
+   * {@link #noneMatch(Predicate)} and {@link #filteredOn(Predicate)}.
+   * <p>
+   * Errors are reported in the iterable order, as if elements had been evaluated sequentially.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ForkJoinPool pool = new ForkJoinPool(8);
+   *
+   * assertThat(documents).inParallel(pool)
+   *                      .allMatch(document -&gt; isValid(document, schema));</code></pre>
+   *
+   * @param pool the pool to evaluate elements on.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pool is {@code null}.
+   */
+  @CheckReturnValue
+  public SELF inParallel(ForkJoinPool pool) {
+    checkNotNull(pool, "The pool to evaluate elements on must not be null");
+    iterables = new Iterables(iterables.getComparisonStrategy(), pool);
+    return myself;
+  }
+
   /**
    * Returns an {@code Assert} object that allows performing assertions on the size of the {@link Iterable} under test.
    * <p>
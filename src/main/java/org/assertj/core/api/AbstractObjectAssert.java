@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.description.Description.mostRelevantDescription;
 import static org.assertj.core.extractor.Extractors.byName;
 import static org.assertj.core.extractor.Extractors.extractedDescriptionOf;
+import static org.assertj.core.internal.RecursiveComparisonLimits.noLimits;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 
 import java.util.Comparator;
@@ -28,6 +29,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.RecursiveComparisonLimits;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -52,6 +54,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
 
   private Map<String, Comparator<?>> comparatorByPropertyOrField = new TreeMap<>();
   private TypeComparators comparatorByType;
+  private RecursiveComparisonLimits recursiveComparisonLimits = noLimits();
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -741,8 +744,74 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    * @throws IntrospectionError if one property/field to compare can not be found.
    */
   public SELF isEqualToComparingFieldByFieldRecursively(Object other) {
-    objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorByPropertyOrField,
-                                                            getComparatorsByType());
+    if (recursiveComparisonLimits.equals(noLimits())) {
+      objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorByPropertyOrField,
+                                                              getComparatorsByType());
+    } else {
+      objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorByPropertyOrField,
+                                                              getComparatorsByType(), recursiveComparisonLimits);
+    }
+    return myself;
+  }
+
+  /**
+   * Limits the depth of the comparison done by {@link #isEqualToComparingFieldByFieldRecursively(Object)}, values
+   * nested in more than the given number of fields are not compared (the fields of the compared objects are at depth 1).
+   * <p>
+   * When differences are found, the error message mentions that some values were not compared.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // only compares jack's fields and the fields of its fields
+   * assertThat(jack).withMaxRecursiveComparisonDepth(2)
+   *                 .isEqualToComparingFieldByFieldRecursively(jackClone);</code></pre>
+   *
+   * @param maxDepth the max number of nested fields of the compared values.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given max depth is not positive.
+   */
+  @CheckReturnValue
+  public SELF withMaxRecursiveComparisonDepth(int maxDepth) {
+    recursiveComparisonLimits = recursiveComparisonLimits.withMaxDepth(maxDepth);
+    return myself;
+  }
+
+  /**
+   * Stops the comparison done by {@link #isEqualToComparingFieldByFieldRecursively(Object)} once the given number of
+   * values have been compared, the remaining values are not compared.
+   * <p>
+   * When differences are found, the error message mentions that the comparison was stopped.
+   * <p>
+   * Example:
+   * <pre><code class='java'> assertThat(snapshot).withMaxRecursivelyComparedValues(1_000_000)
+   *                     .isEqualToComparingFieldByFieldRecursively(otherSnapshot);</code></pre>
+   *
+   * @param maxComparedValues the max number of values to compare.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given max number of compared values is not positive.
+   */
+  @CheckReturnValue
+  public SELF withMaxRecursivelyComparedValues(int maxComparedValues) {
+    recursiveComparisonLimits = recursiveComparisonLimits.withMaxComparedValues(maxComparedValues);
+    return myself;
+  }
+
+  /**
+   * Limits the number of differences reported by {@link #isEqualToComparingFieldByFieldRecursively(Object)}, the
+   * differences found after the given number of them are only counted and the error message tells how many were
+   * omitted.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // reports at most 100 differences
+   * assertThat(snapshot).withMaxReportedDifferences(100)
+   *                     .isEqualToComparingFieldByFieldRecursively(otherSnapshot);</code></pre>
+   *
+   * @param maxReportedDifferences the max number of differences to report.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given max number of reported differences is not positive.
+   */
+  @CheckReturnValue
+  public SELF withMaxReportedDifferences(int maxReportedDifferences) {
+    recursiveComparisonLimits = recursiveComparisonLimits.withMaxReportedDifferences(maxReportedDifferences);
     return myself;
   }
 
@@ -781,7 +850,8 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     if (assertInstance instanceof AbstractObjectAssert) {
       AbstractObjectAssert objectAssert = (AbstractObjectAssert) assertInstance;
       return (SELF) super.withAssertionState(assertInstance).withTypeComparator(objectAssert.comparatorByType)
-                                                            .withComparatorByPropertyOrField(objectAssert.comparatorByPropertyOrField);
+                                                            .withComparatorByPropertyOrField(objectAssert.comparatorByPropertyOrField)
+                                                            .withRecursiveComparisonLimits(objectAssert.recursiveComparisonLimits);
     }
     return super.withAssertionState(assertInstance);
   }
@@ -796,4 +866,9 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     return myself;
   }
 
+  SELF withRecursiveComparisonLimits(RecursiveComparisonLimits recursiveComparisonLimits) {
+    this.recursiveComparisonLimits = recursiveComparisonLimits;
+    return myself;
+  }
+
 }
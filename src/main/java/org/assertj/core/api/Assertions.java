@@ -89,6 +89,7 @@ import org.assertj.core.data.TemporalUnitOffset;
 import org.assertj.core.data.TemporalUnitWithinOffset;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.DeepDifference;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -1495,6 +1496,21 @@ public class Assertions {
     Introspection.setExtractBareNamePropertyMethods(barenamePropertyMethods);
   }
 
+  /**
+   * Globally sets whether recursive comparisons compare the fields and elements of wide object graphs in parallel.
+   * The following methods will be impacted by this change :
+   * <ul>
+   * <li><code>{@link org.assertj.core.api.AbstractObjectAssert#isEqualToComparingFieldByFieldRecursively(Object)}</code></li>
+   * </ul>
+   * Differences are reported in the same order as with a sequential comparison, comparators registered for fields or
+   * types must be thread safe.
+   *
+   * @param parallelRecursiveComparison whether to compare object graphs in parallel. Default {@code false}.
+   */
+  public static void setParallelRecursiveComparison(boolean parallelRecursiveComparison) {
+    DeepDifference.setParallelComparison(parallelRecursiveComparison);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // Data utility methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -14,7 +14,6 @@ package org.assertj.core.api;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -26,13 +25,16 @@ import net.bytebuddy.implementation.bind.annotation.SuperCall;
 import net.bytebuddy.implementation.bind.annotation.SuperMethod;
 import net.bytebuddy.implementation.bind.annotation.This;
 
+import org.assertj.core.util.VisibleForTesting;
+
 /** Collects error messages of all AssertionErrors thrown by the proxied method. */
 public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercept calls in progress in each thread, calls are nested when an intercepted assertion calls
+  // another one (e.g. isFalse() calls isEqualTo(false)), only the outermost call collects the assertion errors.
+  private static final ThreadLocal<int[]> INTERCEPT_CALLS_IN_PROGRESS = ThreadLocal.withInitial(() -> new int[1]);
 
   // scope : the current softassertion object
   private final List<Throwable> errors = new ArrayList<>();
@@ -54,6 +56,8 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] interceptCallsInProgress = INTERCEPT_CALLS_IN_PROGRESS.get();
+    interceptCallsInProgress[0]++;
     try {
       Object result = proxy.call();
       errorCollector.lastResult.setSuccess(true);
@@ -64,6 +68,8 @@ public class ErrorCollector {
         throw assertionError;
       }
       collectAssertionError(assertionError, errorCollector);
+    } finally {
+      interceptCallsInProgress[0]--;
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -95,11 +101,9 @@ public class ErrorCollector {
     return countErrorCollectorProxyCalls() > 1;
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  @VisibleForTesting
+  static int countErrorCollectorProxyCalls() {
+    return INTERCEPT_CALLS_IN_PROGRESS.get()[0];
   }
 
   private static class LastResult {
@@ -17,19 +17,23 @@ import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.Failures;
-import org.assertj.core.util.Lists;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -174,6 +178,19 @@ public class ListAssert<ELEMENT> extends
     return super.isNotSameAs(expected);
   }
 
+  @Override
+  public ListAssert<ELEMENT> hasSizeGreaterThan(int boundary) {
+    // no need to consume the whole stream, reaching the element after the boundary is enough
+    if (actual instanceof ListFromStream && asListFromStream().hasElementAt(boundary)) return myself;
+    return super.hasSizeGreaterThan(boundary);
+  }
+
+  @Override
+  public ListAssert<ELEMENT> hasSizeGreaterThanOrEqualTo(int boundary) {
+    if (actual instanceof ListFromStream && asListFromStream().hasElementAt(boundary - 1)) return myself;
+    return super.hasSizeGreaterThanOrEqualTo(boundary);
+  }
+
   @Override
   @SafeVarargs
   public final ListAssert<ELEMENT> startsWith(ELEMENT... sequence) {
@@ -182,8 +199,8 @@ public class ListAssert<ELEMENT> extends
     }
     objects.assertNotNull(info, actual);
     checkIsNotNull(sequence);
-    // NO SUPPORT FOR infinite streams as it prevents chaining other assertions afterward, it requires to consume the
-    // Stream partially, if you chain another assertion, the stream is already consumed.
+    // only consumes the stream up to the sequence length, consumed elements are buffered so that other assertions can
+    // be chained afterward.
     Iterator<? extends ELEMENT> iterator = asListFromStream().stream().iterator();
     if (sequence.length == 0 && iterator.hasNext()) throw new AssertionError("actual is not empty");
     int i = 0;
@@ -212,7 +229,10 @@ public class ListAssert<ELEMENT> extends
   @VisibleForTesting
   static class ListFromStream<ELEMENT, STREAM extends BaseStream<ELEMENT, STREAM>> extends AbstractList<ELEMENT> {
     private BaseStream<ELEMENT, STREAM> stream;
-    private List<ELEMENT> list;
+    // a stream can only be consumed once, elements are buffered as they are pulled to allow chaining assertions
+    private final List<ELEMENT> consumed = new ArrayList<>();
+    private Iterator<ELEMENT> source;
+    private boolean exhausted;
 
     public ListFromStream(BaseStream<ELEMENT, STREAM> stream) {
       this.stream = stream;
@@ -220,28 +240,70 @@ public class ListAssert<ELEMENT> extends
 
     @Override
     public Stream<ELEMENT> stream() {
-      initList();
-      return list.stream();
+      return StreamSupport.stream(spliterator(), false);
     }
 
-    private List<ELEMENT> initList() {
-      if (list == null) {
-        list = Lists.newArrayList(stream.iterator());
-        stream.close();
-      }
-      return list;
+    @Override
+    public Spliterator<ELEMENT> spliterator() {
+      return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    // iterates over buffered elements first then pulls the next ones from the stream, short-circuiting assertions like
+    // contains or anyMatch thus only consume the stream up to the element they are looking for
+    @Override
+    public Iterator<ELEMENT> iterator() {
+      return new Iterator<ELEMENT>() {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+          return hasElementAt(next);
+        }
+
+        @Override
+        public ELEMENT next() {
+          if (!hasNext()) throw new NoSuchElementException();
+          return consumed.get(next++);
+        }
+      };
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return !hasElementAt(0);
     }
 
     @Override
     public int size() {
-      initList();
-      return list.size();
+      hasElementAt(Integer.MAX_VALUE);
+      return consumed.size();
     }
 
     @Override
     public ELEMENT get(int index) {
-      initList();
-      return list.get(index);
+      if (!hasElementAt(index)) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + consumed.size());
+      return consumed.get(index);
+    }
+
+    /**
+     * Pulls elements from the stream until the one at the given index is consumed or the stream is exhausted.
+     * <p>
+     * The stream is closed once exhausted, it is left open when short-circuiting assertions don't need to read it to
+     * its end so that the assertions chained afterward can still read the remaining elements.
+     *
+     * @param index the index of the element to reach
+     * @return true if the stream has an element at the given index, false otherwise.
+     */
+    boolean hasElementAt(int index) {
+      while (consumed.size() <= index && !exhausted) {
+        if (source == null) source = stream.iterator();
+        if (source.hasNext()) consumed.add(source.next());
+        else {
+          exhausted = true;
+          stream.close();
+        }
+      }
+      return index < consumed.size();
     }
 
   }
@@ -57,6 +57,7 @@ class SoftProxies {
                                                                                             .or(named("getWritableAssertionInfo"))
                                                                                             .or(named("inBinary"))
                                                                                             .or(named("inHexadecimal"))
+                                                                                            .or(named("inParallel"))
                                                                                             .or(named("newAbstractIterableAssert"))
                                                                                             .or(named("newObjectArrayAssert"))
                                                                                             .or(named("removeCustomAssertRelatedElementsFromStackTraceIfNeeded"))
@@ -67,6 +68,9 @@ class SoftProxies {
                                                                                             .or(named("withComparatorsForElementPropertyOrFieldNames"))
                                                                                             .or(named("withComparatorsForElementPropertyOrFieldTypes"))
                                                                                             .or(named("withIterables"))
+                                                                                            .or(named("withMaxRecursiveComparisonDepth"))
+                                                                                            .or(named("withMaxRecursivelyComparedValues"))
+                                                                                            .or(named("withMaxReportedDifferences"))
                                                                                             .or(named("withFailMessage"))
                                                                                             .or(named("withAssertionInfo"))
                                                                                             .or(named("withAssertionState"))
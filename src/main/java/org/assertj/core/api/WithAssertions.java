@@ -1906,6 +1906,21 @@ public interface WithAssertions {
     Assertions.setExtractBareNamePropertyMethods(barenamePropertyMethods);
   }
 
+  /**
+   * Globally sets whether recursive comparisons compare the fields and elements of wide object graphs in parallel.
+   * The following methods will be impacted by this change :
+   * <ul>
+   * <li><code>{@link org.assertj.core.api.AbstractObjectAssert#isEqualToComparingFieldByFieldRecursively(Object)}</code></li>
+   * </ul>
+   * Differences are reported in the same order as with a sequential comparison, comparators registered for fields or
+   * types must be thread safe.
+   *
+   * @param parallelRecursiveComparison whether to compare object graphs in parallel. Default {@code false}.
+   */
+  default void setParallelRecursiveComparison(boolean parallelRecursiveComparison) {
+    Assertions.setParallelRecursiveComparison(parallelRecursiveComparison);
+  }
+
   /**
    * Instead of using default strict date/time parsing, it is possible to use lenient parsing mode for default date
    * formats parser to interpret inputs that do not precisely match supported date formats (lenient parsing).
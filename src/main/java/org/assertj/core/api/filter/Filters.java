@@ -12,16 +12,22 @@
  */
 package org.assertj.core.api.filter;
 
+import static java.util.Arrays.asList;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ValueIndex;
 import org.assertj.core.util.Strings;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -56,10 +62,16 @@ import org.assertj.core.util.introspection.PropertyOrFieldSupport;
  */
 public class Filters<E> {
 
+  private static final int LINEAR_LOOKUP_THRESHOLD = 8;
+
   // initialIterable is never modified, it represents the group before any filters have been performed
   @VisibleForTesting
   final Iterable<E> initialIterable;
   List<E> filteredIterable;
+  // true once a filter has been applied, indexes can only be used to filter the initial iterable elements
+  private boolean filtered;
+  // indexes of the initial iterable elements by property/field value, null when elements are not indexed
+  private Map<String, ValueIndex<E>> indexes;
 
   private final PropertyOrFieldSupport propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
 
@@ -138,15 +150,45 @@ public class Filters<E> {
   }
 
   private Filters(Iterable<E> iterable) {
+    this(iterable, null);
+  }
+
+  private Filters(Iterable<E> iterable, Map<String, ValueIndex<E>> indexes) {
     this.initialIterable = iterable;
     // copy list to avoid modifying iterable
     this.filteredIterable = newArrayList(iterable);
+    this.indexes = indexes;
   }
 
   private Filters(E[] array) {
     this(newArrayList(array));
   }
 
+  /**
+   * Returns new {@link Filters} on the initial group (ignoring the filters applied so far) which index the group
+   * elements by property/field value.
+   * <p>
+   * The first time the group is filtered on a property/field with {@link #equalsTo(Object)}, {@link #notEqualsTo(Object)},
+   * {@link #in(Object...)} or {@link #notIn(Object...)}, the property/field is read on all elements to index them by
+   * value, the index is then used to look filtered values up. Indexes are shared by all the {@link Filters} created
+   * with this method from the same {@link Filters}, this avoids reading the same property/field again when filtering
+   * the same group several times, as in:
+   * <pre><code class='java'> Filters&lt;Employee&gt; employeesFilters = filter(employees);
+   *
+   * assertThat(employeesFilters.indexed().with("job", "jedi").get()).hasSize(2);
+   * // "job" values are not read again
+   * assertThat(employeesFilters.indexed().with("job").in("padawan", "sith").get()).hasSize(3);</code></pre>
+   * <p>
+   * Only the first filter applied is looked up in indexes, the next ones are applied on the already filtered elements.
+   * Note that the group must not be modified as long as indexed filters are used.
+   *
+   * @return new {@link Filters} on the initial group whose elements are indexed by property/field value.
+   */
+  public Filters<E> indexed() {
+    if (indexes == null) indexes = new HashMap<>();
+    return new Filters<>(initialIterable, indexes);
+  }
+
   /**
    * Filter the underlying group, keeping only elements satisfying the given {@link Condition}.<br>
    * Same as {@link #having(Condition)} - pick the method you prefer to have the most readable code.
@@ -196,8 +238,7 @@ public class Filters<E> {
   }
 
   private Filters<E> applyFilterCondition(Condition<? super E> condition) {
-    this.filteredIterable = filteredIterable.stream().filter(condition::matches).collect(toList());
-    return this;
+    return filteredOn(filteredIterable.stream().filter(condition::matches).collect(toList()));
   }
 
   /**
@@ -270,11 +311,11 @@ public class Filters<E> {
    */
   public Filters<E> equalsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    if (canUseIndex()) return filteredOn(propertyValueIndex().elementsWithValueIn(propertyValue));
+    return filteredOn(filteredIterable.stream().filter(element -> {
       Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
       return areEqual(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    }).collect(toList()));
   }
 
   /**
@@ -291,11 +332,11 @@ public class Filters<E> {
    */
   public Filters<E> notEqualsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    if (canUseIndex()) return filteredOn(propertyValueIndex().elementsWithValueNotIn(propertyValue));
+    return filteredOn(filteredIterable.stream().filter(element -> {
       Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
       return !areEqual(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    }).collect(toList()));
   }
 
   private void checkPropertyNameToFilterOnIsNotNull() {
@@ -316,11 +357,12 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    if (canUseIndex()) return filteredOn(propertyValueIndex().elementsWithValueIn(propertyValues));
+    Predicate<Object> isInPropertyValues = isIn(propertyValues);
+    return filteredOn(filteredIterable.stream().filter(element -> {
       Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
+      return isInPropertyValues.test(propertyValueOfCurrentElement);
+    }).collect(toList()));
   }
 
   /**
@@ -336,11 +378,19 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
+    if (canUseIndex()) return filteredOn(propertyValueIndex().elementsWithValueNotIn(propertyValues));
+    Predicate<Object> isInPropertyValues = isIn(propertyValues);
+    return filteredOn(filteredIterable.stream().filter(element -> {
       Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return !isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
+      return !isInPropertyValues.test(propertyValueOfCurrentElement);
+    }).collect(toList()));
+  }
+
+  private static Predicate<Object> isIn(Object[] arrayOfValues) {
+    // hashing values does not pay off when there are only a few of them
+    if (arrayOfValues.length <= LINEAR_LOOKUP_THRESHOLD) return item -> isItemInArray(item, arrayOfValues);
+    ValueIndex<Object> values = ValueIndex.index(asList(arrayOfValues), identity());
+    return values::containsValue;
   }
 
   /**
@@ -356,6 +406,23 @@ public class Filters<E> {
     return false;
   }
 
+  private boolean canUseIndex() {
+    return indexes != null && !filtered;
+  }
+
+  private ValueIndex<E> propertyValueIndex() {
+    String propertyOrFieldName = propertyOrFieldNameToFilterOn;
+    return indexes.computeIfAbsent(propertyOrFieldName,
+                                   name -> ValueIndex.index(filteredIterable,
+                                                            element -> propertyOrFieldSupport.getValueOf(name, element)));
+  }
+
+  private Filters<E> filteredOn(List<E> elements) {
+    this.filteredIterable = elements;
+    this.filtered = true;
+    return this;
+  }
+
   /**
    * Returns the resulting filtered Iterable&lt;E&gt; (even if the constructor parameter type was an array).
    * 
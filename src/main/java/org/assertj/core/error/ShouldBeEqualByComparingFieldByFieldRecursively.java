@@ -20,6 +20,8 @@ import static org.assertj.core.util.Strings.join;
 import java.util.List;
 
 import org.assertj.core.internal.DeepDifference.Difference;
+import org.assertj.core.internal.DeepDifference.LimitedDifferences;
+import org.assertj.core.internal.RecursiveComparisonLimits;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.Objects;
 
@@ -28,18 +30,41 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
   public static ErrorMessageFactory shouldBeEqualByComparingFieldByFieldRecursive(Object actual, Object other,
                                                                                   List<Difference> differences,
                                                                                   Representation representation) {
+    return new ShouldBeEqualByComparingFieldByFieldRecursively(describeDifferences(differences, representation),
+                                                               actual, other);
+  }
+
+  public static ErrorMessageFactory shouldBeEqualByComparingFieldByFieldRecursive(Object actual, Object other,
+                                                                                  LimitedDifferences differences,
+                                                                                  Representation representation) {
+    RecursiveComparisonLimits limits = differences.getLimits();
+    StringBuilder message = new StringBuilder(describeDifferences(differences.getDifferences(), representation));
+    if (differences.getOmittedDifferences() > 0) {
+      message.append(format("%%n%%n%s more difference(s) omitted, only the first %s are reported.",
+                            differences.getOmittedDifferences(), limits.getMaxReportedDifferences()));
+    }
+    if (differences.isMaxComparedValuesReached()) {
+      message.append(format("%%n%%nThe comparison stopped after comparing %s values, the remaining ones were not compared.",
+                            limits.getMaxComparedValues()));
+    }
+    if (differences.isMaxDepthReached()) {
+      message.append(format("%%n%%nValues nested in more than %s fields were not compared.", limits.getMaxDepth()));
+    }
+    return new ShouldBeEqualByComparingFieldByFieldRecursively(message.toString(), actual, other);
+  }
+
+  private static String describeDifferences(List<Difference> differences, Representation representation) {
     List<String> descriptionOfDifferences = differences.stream()
                                                        .map(difference -> describeDifference(difference,
                                                                                              representation))
                                                        .collect(toList());
-    return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
-                                                               "Expecting:%n" +
-                                                               "  <%s>%n" +
-                                                               "to be equal to:%n" +
-                                                               "  <%s>%n" +
-                                                               "when recursively comparing field by field, but found the following difference(s):%n"
-                                                               + join(descriptionOfDifferences).with(format("%n")),
-                                                               actual, other);
+    return "%n" +
+           "Expecting:%n" +
+           "  <%s>%n" +
+           "to be equal to:%n" +
+           "  <%s>%n" +
+           "when recursively comparing field by field, but found the following difference(s):%n"
+           + join(descriptionOfDifferences).with(format("%n"));
   }
 
   private ShouldBeEqualByComparingFieldByFieldRecursively(String message, Object actual, Object other) {
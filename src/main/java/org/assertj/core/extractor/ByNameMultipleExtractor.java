@@ -24,6 +24,8 @@ import org.assertj.core.groups.Tuple;
 public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
 
   private final String[] fieldsOrProperties;
+  // built once as they are applied to each element
+  private List<Function<T, Object>> extractors;
 
   public ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
@@ -35,7 +37,7 @@ public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<T, Object>> extractors = buildExtractors();
+    if (extractors == null) extractors = buildExtractors();
     List<Object> values = extractValues(input, extractors);
     
     return new Tuple(values.toArray());
@@ -13,15 +13,19 @@
 package org.assertj.core.groups;
 
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.extractor.Extractors.byName;
 import static org.assertj.core.util.IterableUtil.toArray;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.AbstractObjectArrayAssert;
+import org.assertj.core.internal.ColumnarTuples;
 
 /**
  * Understands how to retrieve fields or values from a collection/array of objects.
@@ -64,6 +68,50 @@ public class FieldsOrPropertiesExtractor {
     return stream(objects).map(extractor).collect(toList());
   }
 
+  /**
+   * Behavior is described in {@link AbstractIterableAssert#extracting(String...)}, values are stored column by column
+   * (see {@link ColumnarTuples}) instead of in a {@link Tuple} per element.
+   * @param <F> type of elements to extract values from
+   * @param objects the elements to extract values from
+   * @param fieldsOrProperties the names of the fields/properties to extract
+   * @return the extracted tuples
+   */
+  public static <F> List<Tuple> extractTuples(Iterable<? extends F> objects, String... fieldsOrProperties) {
+    checkObjectToExtractFromIsNotNull(objects);
+    int width = fieldsOrProperties == null ? 0 : fieldsOrProperties.length;
+    List<Function<F, Object>> extractors = new ArrayList<>(width);
+    for (int i = 0; i < width; i++) {
+      extractors.add(byName(fieldsOrProperties[i]));
+    }
+    return ColumnarTuples.extract(objects, width, (object, values) -> {
+      // same checks as ByNameMultipleExtractor, done for each element
+      checkArgument(fieldsOrProperties != null, "The names of the fields/properties to read should not be null");
+      checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
+      checkArgument(object != null, "The object to extract fields/properties from should not be null");
+      for (int i = 0; i < width; i++) {
+        values[i] = extractors.get(i).apply(object);
+      }
+    });
+  }
+
+  /**
+   * Behavior is described in {@link AbstractIterableAssert#extracting(Function...)}, values are stored column by column
+   * (see {@link ColumnarTuples}) instead of in a {@link Tuple} per element.
+   * @param <F> type of elements to extract values from
+   * @param objects the elements to extract values from
+   * @param extractors the extractor functions
+   * @return the extracted tuples
+   */
+  @SafeVarargs
+  public static <F> List<Tuple> extractTuples(Iterable<? extends F> objects, Function<? super F, ?>... extractors) {
+    checkObjectToExtractFromIsNotNull(objects);
+    return ColumnarTuples.extract(objects, extractors.length, (object, values) -> {
+      for (int i = 0; i < extractors.length; i++) {
+        values[i] = extractors[i].apply(object);
+      }
+    });
+  }
+
   private static void checkObjectToExtractFromIsNotNull(Object object) {
     if (object == null) throw new AssertionError("Expecting actual not to be null");
   }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.groups;
 
+import static java.util.Arrays.deepHashCode;
 import static java.util.Collections.addAll;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.util.Lists.newArrayList;
@@ -39,7 +40,8 @@ public class Tuple {
   public int hashCode() {
     final int prime = 31;
     int result = 1;
-    result = prime * result + datas.hashCode();
+    // values are compared by content when they are arrays, hash them by content to be consistent with equals
+    result = prime * result + deepHashCode(datas.toArray());
     return result;
   }
 
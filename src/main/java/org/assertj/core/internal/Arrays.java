@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Math.min;
 import static java.lang.reflect.Array.getLength;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
@@ -67,6 +68,9 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.maxElementsToReport;
+import static org.assertj.core.internal.IterableDiff.unmatched;
+import static org.assertj.core.internal.SequenceFinder.indexOfSequence;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.prepend;
@@ -77,7 +81,6 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -195,12 +198,8 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
-    }
+    if (canComparePrimitives(actual, values) && PrimitiveArrayComparisons.containsAll(actual, values)) return;
+    Set<Object> notFound = new LinkedHashSet<>(unmatched(asList(values), wrap(actual), comparisonStrategy, false));
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
   }
@@ -208,11 +207,9 @@ public class Arrays {
   void assertcontainsAll(AssertionInfo info, Failures failures, Object array, Iterable<?> iterable) {
     if (iterable == null) throw iterableToLookForIsNull();
     assertNotNull(info, array);
-    Object[] values = newArrayList(iterable).toArray();
-    Set<Object> notFound = new LinkedHashSet<>();
-    for (Object value : values) {
-      if (!arrayContains(array, value)) notFound.add(value);
-    }
+    List<Object> valuesAsList = newArrayList(iterable);
+    Object[] values = valuesAsList.toArray();
+    Set<Object> notFound = new LinkedHashSet<>(unmatched(valuesAsList, wrap(array), comparisonStrategy, false));
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(array, values, notFound, comparisonStrategy));
   }
@@ -242,15 +239,9 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
-      }
-    }
+    if (canComparePrimitives(actual, values) && PrimitiveArrayComparisons.containsOnly(actual, values)) return;
+    List<Object> notExpected = unmatched(asList(actual), wrap(values), comparisonStrategy, false);
+    List<Object> notFound = unmatched(asList(values), wrap(actual), comparisonStrategy, false);
 
     if (!notExpected.isEmpty() || !notFound.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actual, values,
@@ -275,36 +266,42 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (canComparePrimitives(actual, values) && PrimitiveArrayComparisons.containsExactly(actual, values)) return;
+
+    // elements are usually in the expected order, check it first as it does not need any diff
+    int actualSize = sizeOf(actual);
+    int indexOfFirstDifference = indexOfFirstDifference(actual, values);
+    if (indexOfFirstDifference == actualSize && actualSize == sizeOf(values)) return;
 
-    List<Object> actualAsList = asList(actual);
-    IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
+    IterableDiff diff = diff(asList(actual), asList(values), comparisonStrategy, maxElementsToReport(info));
     if (!diff.differencesFound()) {
-      // actual and values have the same elements but are they in the same order ?
-      int arrayLength = sizeOf(actual);
-      for (int i = 0; i < arrayLength; i++) {
-        Object actualElement = Array.get(actual, i);
-        Object expectedElement = Array.get(values, i);
-        if (!areEqual(actualElement, expectedElement))
-          throw failures.failure(info, elementsDifferAtIndex(actualElement, expectedElement, i, comparisonStrategy));
-      }
-      return;
+      // actual and values have the same elements but not in the same order
+      Object actualElement = Array.get(actual, indexOfFirstDifference);
+      Object expectedElement = Array.get(values, indexOfFirstDifference);
+      throw failures.failure(info, elementsDifferAtIndex(actualElement, expectedElement, indexOfFirstDifference,
+                                                         comparisonStrategy));
     }
     throw failures.failure(info,
                            shouldContainExactly(actual, asList(values), diff.missing, diff.unexpected,
                                                 comparisonStrategy));
   }
 
+  private int indexOfFirstDifference(Object actual, Object values) {
+    int size = min(sizeOf(actual), sizeOf(values));
+    int i = 0;
+    while (i < size && areEqual(Array.get(actual, i), Array.get(values, i))) {
+      i++;
+    }
+    return i;
+  }
+
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
+    if (canComparePrimitives(actual, values)
+        && PrimitiveArrayComparisons.containsExactlyInAnyOrder(actual, values)) return;
+    // each expected value matches one actual element, first ones first
+    List<Object> notExpected = unmatched(asList(actual), wrap(values), comparisonStrategy, true);
+    List<Object> notFound = unmatched(asList(values), wrap(actual), comparisonStrategy, true);
 
     if (notExpected.isEmpty() && notFound.isEmpty()) return;
 
@@ -315,6 +312,7 @@ public class Arrays {
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
+    if (canComparePrimitives(actual, values) && PrimitiveArrayComparisons.containsOnlyOnce(actual, values)) return;
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
@@ -337,56 +335,16 @@ public class Arrays {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  /**
-   * Delegates to {@link ComparisonStrategy#iterableRemoves(Iterable, Object)}
-   */
-  private void iterableRemoves(Collection<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (indexOfSequence(wrap(actual), wrap(sequence), comparisonStrategy) >= 0) return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
-    }
-  }
-
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * 
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-        continue;
-      return false;
-    }
-    return true;
+    int index = indexOfSequence(wrap(actual), wrap(sequence), comparisonStrategy);
+    if (index >= 0) throw failures.failure(info, shouldNotContainSequence(actual, sequence, index, comparisonStrategy));
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -469,6 +427,7 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (canComparePrimitives(array, values) && !PrimitiveArrayComparisons.containsAny(array, values)) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -478,6 +437,11 @@ public class Arrays {
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
 
+  // primitive arrays elements compared with the standard strategy don't need to be boxed to check assertions
+  private boolean canComparePrimitives(Object actual, Object values) {
+    return PrimitiveArrayComparisons.canCompare(comparisonStrategy, actual, values);
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#arrayContains(Object, Object)}
    */
@@ -487,6 +451,8 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (PrimitiveArrayComparisons.canCompare(comparisonStrategy, array)
+        && !PrimitiveArrayComparisons.hasDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -545,14 +511,7 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
-      }
-    }
+    List<Object> extra = unmatched(wrap(actual), values, comparisonStrategy, false);
     if (extra.size() > 0) {
       throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
     }
@@ -643,6 +602,7 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (canComparePrimitives(actual, values) && PrimitiveArrayComparisons.containsAny(actual, values)) return;
 
     List<Object> valuesToSearchFor = asList(values);
     for (Object element : asList(actual)) {
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Arrays;
+
+import org.assertj.core.groups.Tuple;
+
+/**
+ * Checks whether {@link ColumnarTuples} contain tuples by comparing their rows in place, without building a
+ * {@link Tuple} per row.
+ * <p>
+ * Only successes are detected: when a check returns false, callers must perform the regular check which finds the
+ * elements to report (rows which are equal but hashed differently, e.g. with a {@code hashCode} inconsistent with
+ * {@code equals}, are not matched here but will be by the regular check).
+ */
+final class ColumnarTupleMatching {
+
+  private ColumnarTupleMatching() {}
+
+  /**
+   * Returns true if actual rows are equal to the given values in the same order.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param actual the iterable to check
+   * @param values the expected values
+   * @return true if actual rows are known to be equal to values in order, false if it can't be told.
+   */
+  static boolean containsExactly(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Object[] values) {
+    if (!canMatch(comparisonStrategy, actual, values)) return false;
+    ColumnarTuples rows = (ColumnarTuples) actual;
+    if (rows.size() != values.length) return false;
+    for (int row = 0; row < values.length; row++) {
+      if (!rows.rowEquals(row, (Tuple) values[row])) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if each of the given values is equal to one of actual rows.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param actual the iterable to check
+   * @param values the expected values
+   * @return true if actual rows are known to contain all values, false if it can't be told.
+   */
+  static boolean containsAll(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Object[] values) {
+    if (!canMatch(comparisonStrategy, actual, values)) return false;
+    return match(new ValuesByHashCode(values), (ColumnarTuples) actual, false);
+  }
+
+  /**
+   * Returns true if each of the given values is equal to one of actual rows and each row is equal to one of the values.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param actual the iterable to check
+   * @param values the expected values
+   * @return true if actual rows are known to only contain values, false if it can't be told.
+   */
+  static boolean containsOnly(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Object[] values) {
+    if (!canMatch(comparisonStrategy, actual, values)) return false;
+    return match(new ValuesByHashCode(values), (ColumnarTuples) actual, true);
+  }
+
+  private static boolean canMatch(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Object[] values) {
+    if (!comparisonStrategy.isStandard() || !(actual instanceof ColumnarTuples)) return false;
+    for (Object value : values) {
+      if (!(value instanceof Tuple)) return false;
+    }
+    return true;
+  }
+
+  private static boolean match(ValuesByHashCode values, ColumnarTuples rows, boolean allRowsMustMatch) {
+    boolean[] matchedValues = new boolean[values.size()];
+    int unmatchedValues = values.size();
+    for (int row = 0; row < rows.size(); row++) {
+      boolean rowMatched = false;
+      int rowHashCode = rows.rowHashCode(row);
+      for (int i = values.first(rowHashCode); i < values.size() && values.hashCodeAt(i) == rowHashCode; i++) {
+        int index = values.indexAt(i);
+        if (rows.rowEquals(row, values.get(index))) {
+          rowMatched = true;
+          if (!matchedValues[index]) {
+            matchedValues[index] = true;
+            unmatchedValues--;
+          }
+        }
+      }
+      if (allRowsMustMatch && !rowMatched) return false;
+      if (!allRowsMustMatch && unmatchedValues == 0) return true;
+    }
+    return unmatchedValues == 0;
+  }
+
+  // values sorted by hash code, each entry packs the value hash code (high bits) and its index (low bits)
+  private static class ValuesByHashCode {
+
+    private final Object[] values;
+    private final long[] entries;
+
+    ValuesByHashCode(Object[] values) {
+      this.values = values;
+      entries = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+        entries[i] = entry(values[i].hashCode(), i);
+      }
+      Arrays.sort(entries);
+    }
+
+    int size() {
+      return entries.length;
+    }
+
+    Tuple get(int index) {
+      return (Tuple) values[index];
+    }
+
+    int hashCodeAt(int i) {
+      return (int) (entries[i] >> 32);
+    }
+
+    int indexAt(int i) {
+      return (int) entries[i];
+    }
+
+    // position of the first entry with the given hash code, or of the entry after it if there is none
+    int first(int hashCode) {
+      int position = Arrays.binarySearch(entries, entry(hashCode, 0));
+      return position >= 0 ? position : -position - 1;
+    }
+
+    private static long entry(int hashCode, int index) {
+      return ((long) hashCode << 32) | index;
+    }
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Arrays.isArray;
+import static org.assertj.core.util.Objects.HASH_CODE_PRIME;
+import static org.assertj.core.util.Objects.areEqual;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+
+import org.assertj.core.groups.Tuple;
+
+/**
+ * An immutable list of {@link Tuple}s storing the values at each tuple position in their own column, this is how
+ * values extracted from the elements of an {@link Iterable} are stored to avoid building a {@link Tuple} per element.
+ * <p>
+ * A column keeps its values in a primitive array as long as they all are of the same primitive wrapper type (which is
+ * the case for values read from a primitive getter or field), otherwise values are kept in an {@code Object} array.
+ * <p>
+ * Tuples are only built when rows are read through the {@link List} interface, once per row as they are kept to be
+ * returned by the next reads, {@link #rowEquals(int, Tuple)} and {@link #rowHashCode(int)} compare rows to tuples
+ * without building them.
+ */
+public final class ColumnarTuples extends AbstractList<Tuple> implements RandomAccess {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final Column[] columns;
+  private final int size;
+  // tuples of the rows read through the List interface, built on first read
+  private Tuple[] tuples;
+
+  private ColumnarTuples(Column[] columns, int size) {
+    this.columns = columns;
+    this.size = size;
+  }
+
+  /**
+   * Extracts a row of {@code width} values from each element with the given row extractor, the row extractor is given
+   * the same array for each element as values are copied in the columns once extracted.
+   *
+   * @param <T> the type of elements to extract values from
+   * @param elements the elements to extract values from
+   * @param width the number of values extracted from each element
+   * @param rowExtractor stores the values extracted from an element in the given array
+   * @return the extracted rows.
+   */
+  public static <T> ColumnarTuples extract(Iterable<? extends T> elements, int width,
+                                    BiConsumer<? super T, Object[]> rowExtractor) {
+    int capacity = elements instanceof Collection ? ((Collection<?>) elements).size() : DEFAULT_CAPACITY;
+    Column[] columns = new Column[width];
+    for (int i = 0; i < width; i++) {
+      columns[i] = new UntypedColumn(capacity);
+    }
+    Object[] row = new Object[width];
+    int size = 0;
+    for (T element : elements) {
+      rowExtractor.accept(element, row);
+      for (int i = 0; i < width; i++) {
+        columns[i] = columns[i].add(row[i]);
+      }
+      size++;
+    }
+    return new ColumnarTuples(columns, size);
+  }
+
+  @Override
+  public Tuple get(int row) {
+    if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+    if (tuples == null) tuples = new Tuple[size];
+    if (tuples[row] == null) tuples[row] = buildTuple(row);
+    return tuples[row];
+  }
+
+  private Tuple buildTuple(int row) {
+    Object[] values = new Object[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      values[i] = columns[i].get(row);
+    }
+    return new Tuple(values);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns true if the tuple at the given row is equal to the given tuple, without building the row tuple.
+   *
+   * @param row the index of the row to compare
+   * @param tuple the tuple to compare the row to
+   * @return true if {@code get(row).equals(tuple)}, false otherwise.
+   */
+  public boolean rowEquals(int row, Tuple tuple) {
+    if (tuple == null) return false;
+    List<Object> values = tuple.toList();
+    if (values.size() != columns.length) return false;
+    for (int i = 0; i < columns.length; i++) {
+      if (!columns[i].matches(row, values.get(i))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the hash code of the tuple at the given row, without building the row tuple.
+   *
+   * @param row the index of the row to hash
+   * @return {@code get(row).hashCode()}
+   */
+  public int rowHashCode(int row) {
+    int hashCode = 1;
+    for (Column column : columns) {
+      hashCode = HASH_CODE_PRIME * hashCode + column.hashCode(row);
+    }
+    return HASH_CODE_PRIME + hashCode;
+  }
+
+  // arrays are compared by content in tuples, hash them by content like Tuple does
+  private static int hashCodeOf(Object value) {
+    if (value == null) return 0;
+    if (!isArray(value)) return value.hashCode();
+    int hashCode = 1;
+    for (int i = 0; i < Array.getLength(value); i++) {
+      hashCode = HASH_CODE_PRIME * hashCode + hashCodeOf(Array.get(value, i));
+    }
+    return hashCode;
+  }
+
+  private static int grow(int capacity) {
+    return capacity + (capacity >> 1) + 1;
+  }
+
+  private abstract static class Column {
+
+    int size;
+
+    abstract Object get(int row);
+
+    // compares like Tuple.equals does, i.e. with Objects.areEqual(rowValue, value)
+    abstract boolean matches(int row, Object value);
+
+    abstract int hashCode(int row);
+
+    /**
+     * Adds the given value at the end of this column.
+     *
+     * @return this column or a column able to store the given value and the values of this column.
+     */
+    abstract Column add(Object value);
+
+    Column addToObjectColumn(Object value) {
+      return new ObjectColumn(this).add(value);
+    }
+  }
+
+  // column whose type is decided by its first value
+  private static class UntypedColumn extends Column {
+
+    private final int capacity;
+
+    UntypedColumn(int capacity) {
+      this.capacity = capacity;
+    }
+
+    @Override
+    Object get(int row) {
+      throw new IndexOutOfBoundsException("Index: " + row + ", Size: 0");
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      return false;
+    }
+
+    @Override
+    int hashCode(int row) {
+      return 0;
+    }
+
+    @Override
+    Column add(Object value) {
+      if (value instanceof Integer) return new IntColumn(capacity).add(value);
+      if (value instanceof Long) return new LongColumn(capacity).add(value);
+      if (value instanceof Double) return new DoubleColumn(capacity).add(value);
+      if (value instanceof Boolean) return new BooleanColumn(capacity).add(value);
+      return new ObjectColumn(capacity).add(value);
+    }
+  }
+
+  private static class ObjectColumn extends Column {
+
+    private Object[] values;
+
+    ObjectColumn(int capacity) {
+      values = new Object[Math.max(capacity, 1)];
+    }
+
+    ObjectColumn(Column column) {
+      this(grow(column.size));
+      for (int i = 0; i < column.size; i++) {
+        values[i] = column.get(i);
+      }
+      size = column.size;
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      return areEqual(values[row], value);
+    }
+
+    @Override
+    int hashCode(int row) {
+      return hashCodeOf(values[row]);
+    }
+
+    @Override
+    Column add(Object value) {
+      if (size == values.length) values = Arrays.copyOf(values, grow(size));
+      values[size++] = value;
+      return this;
+    }
+  }
+
+  private static class IntColumn extends Column {
+
+    private int[] values;
+
+    IntColumn(int capacity) {
+      values = new int[Math.max(capacity, 1)];
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      return value instanceof Integer && (Integer) value == values[row];
+    }
+
+    @Override
+    int hashCode(int row) {
+      return Integer.hashCode(values[row]);
+    }
+
+    @Override
+    Column add(Object value) {
+      if (!(value instanceof Integer)) return addToObjectColumn(value);
+      if (size == values.length) values = Arrays.copyOf(values, grow(size));
+      values[size++] = (Integer) value;
+      return this;
+    }
+  }
+
+  private static class LongColumn extends Column {
+
+    private long[] values;
+
+    LongColumn(int capacity) {
+      values = new long[Math.max(capacity, 1)];
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      return value instanceof Long && (Long) value == values[row];
+    }
+
+    @Override
+    int hashCode(int row) {
+      return Long.hashCode(values[row]);
+    }
+
+    @Override
+    Column add(Object value) {
+      if (!(value instanceof Long)) return addToObjectColumn(value);
+      if (size == values.length) values = Arrays.copyOf(values, grow(size));
+      values[size++] = (Long) value;
+      return this;
+    }
+  }
+
+  private static class DoubleColumn extends Column {
+
+    private double[] values;
+
+    DoubleColumn(int capacity) {
+      values = new double[Math.max(capacity, 1)];
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      // same semantics as Double.equals: NaN is equal to itself but 0.0 is not equal to -0.0
+      return value instanceof Double
+             && Double.doubleToLongBits((Double) value) == Double.doubleToLongBits(values[row]);
+    }
+
+    @Override
+    int hashCode(int row) {
+      return Double.hashCode(values[row]);
+    }
+
+    @Override
+    Column add(Object value) {
+      if (!(value instanceof Double)) return addToObjectColumn(value);
+      if (size == values.length) values = Arrays.copyOf(values, grow(size));
+      values[size++] = (Double) value;
+      return this;
+    }
+  }
+
+  private static class BooleanColumn extends Column {
+
+    private boolean[] values;
+
+    BooleanColumn(int capacity) {
+      values = new boolean[Math.max(capacity, 1)];
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean matches(int row, Object value) {
+      return value instanceof Boolean && (Boolean) value == values[row];
+    }
+
+    @Override
+    int hashCode(int row) {
+      return Boolean.hashCode(values[row]);
+    }
+
+    @Override
+    Column add(Object value) {
+      if (!(value instanceof Boolean)) return addToObjectColumn(value);
+      if (size == values.length) values = Arrays.copyOf(values, grow(size));
+      values[size++] = (Boolean) value;
+      return this;
+    }
+  }
+}
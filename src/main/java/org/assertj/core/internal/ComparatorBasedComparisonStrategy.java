@@ -12,11 +12,17 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Math.min;
+import static java.util.Arrays.sort;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
+import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -72,6 +78,9 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   @SuppressWarnings("unchecked")
   public boolean iterableContains(Iterable<?> iterable, Object value) {
     if (isNullOrEmpty(iterable)) return false;
+    // sorted sets using the same comparator can tell whether they contain value without being iterated
+    Boolean found = IndexedCollections.lookUp(this, iterable, value);
+    if (found != null) return found;
     for (Object element : iterable) {
       // avoid comparison when objects are the same or both null
       if (element == value) return true;
@@ -115,6 +124,122 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     }
   }
 
+  /**
+   * Matches the given elements against the given values by sorting copies of both with {@link #comparator} and merging
+   * them, this takes O((n+m) log(n+m)) comparisons instead of the O(n*m) needed to look up elements one by one.
+   * <p>
+   * As {@link #iterableContains(Iterable, Object)}, {@code null} only matches {@code null}. When {@code countOccurrences}
+   * is true, each value matches at most one element, the first ones in encounter order, otherwise a value matches all
+   * the elements equal to it.
+   * <p>
+   * Elements left unmatched after merging are compared one by one with the values so that comparators that are not
+   * consistent total orders still give the same result as one by one lookups.
+   *
+   * @param elements the elements to match
+   * @param values the values to match elements with
+   * @param countOccurrences whether elements and values are matched one to one or not
+   * @return for each element, whether it has been matched, or null if {@link #comparator} can't sort the given elements
+   *         or values.
+   */
+  boolean[] sortAndMatch(List<?> elements, List<?> values, boolean countOccurrences) {
+    // these comparators only tell whether objects are equal, the value returned otherwise is not relevant for ordering
+    if (comparator instanceof FieldByFieldComparator || comparator instanceof ExtendedByTypesComparator) return null;
+    boolean[] matchedElements = new boolean[elements.size()];
+    boolean[] matchedValues = new boolean[values.size()];
+    try {
+      Integer[] sortedElements = sortedIndexes(elements, true);
+      Integer[] sortedValues = sortedIndexes(values, true);
+      int i = 0;
+      int j = 0;
+      while (i < sortedElements.length && j < sortedValues.length) {
+        int comparison = compare(elements.get(sortedElements[i]), values.get(sortedValues[j]));
+        if (comparison < 0) i++;
+        else if (comparison > 0) j++;
+        else {
+          int elementsRunEnd = endOfRunOfEquals(elements, sortedElements, i);
+          int valuesRunEnd = endOfRunOfEquals(values, sortedValues, j);
+          // the sort is stable, runs of equal elements are thus in encounter order
+          int matchCount = countOccurrences ? min(elementsRunEnd - i, valuesRunEnd - j) : Integer.MAX_VALUE;
+          for (int k = i; k < elementsRunEnd && k - i < matchCount; k++) {
+            matchedElements[sortedElements[k]] = true;
+          }
+          for (int k = j; k < valuesRunEnd && k - j < matchCount; k++) {
+            matchedValues[sortedValues[k]] = true;
+          }
+          i = elementsRunEnd;
+          j = valuesRunEnd;
+        }
+      }
+      matchNulls(elements, values, matchedElements, matchedValues, countOccurrences);
+      matchOneByOne(elements, values, matchedElements, matchedValues, countOccurrences);
+    } catch (ClassCastException | IllegalArgumentException e) {
+      // the comparator can't order these elements (IllegalArgumentException is thrown by sort on contract violation)
+      return null;
+    }
+    return matchedElements;
+  }
+
+  private Integer[] sortedIndexes(List<?> list, boolean skipNulls) {
+    List<Integer> indexes = new ArrayList<>(list.size());
+    for (int i = 0; i < list.size(); i++) {
+      if (!skipNulls || list.get(i) != null) indexes.add(i);
+    }
+    Integer[] sortedIndexes = indexes.toArray(new Integer[0]);
+    // sorting objects is stable
+    sort(sortedIndexes, (index1, index2) -> compare(list.get(index1), list.get(index2)));
+    return sortedIndexes;
+  }
+
+  private int endOfRunOfEquals(List<?> list, Integer[] sortedIndexes, int runStart) {
+    Object first = list.get(sortedIndexes[runStart]);
+    int runEnd = runStart + 1;
+    while (runEnd < sortedIndexes.length && compare(first, list.get(sortedIndexes[runEnd])) == 0) {
+      runEnd++;
+    }
+    return runEnd;
+  }
+
+  private static void matchNulls(List<?> elements, List<?> values, boolean[] matchedElements, boolean[] matchedValues,
+                                 boolean countOccurrences) {
+    int nullValueIndex = 0;
+    for (int i = 0; i < matchedElements.length; i++) {
+      if (elements.get(i) != null) continue;
+      while (nullValueIndex < matchedValues.length && values.get(nullValueIndex) != null) {
+        nullValueIndex++;
+      }
+      if (nullValueIndex == matchedValues.length) return;
+      matchedElements[i] = true;
+      matchedValues[nullValueIndex] = true;
+      if (countOccurrences) nullValueIndex++;
+    }
+  }
+
+  private void matchOneByOne(List<?> elements, List<?> values, boolean[] matchedElements, boolean[] matchedValues,
+                             boolean countOccurrences) {
+    for (int i = 0; i < matchedElements.length; i++) {
+      if (matchedElements[i]) continue;
+      for (int j = 0; j < matchedValues.length; j++) {
+        if (countOccurrences && matchedValues[j]) continue;
+        if (areEqualOrBothNull(elements.get(i), values.get(j))) {
+          matchedElements[i] = true;
+          matchedValues[j] = true;
+          break;
+        }
+      }
+    }
+  }
+
+  private boolean areEqualOrBothNull(Object element, Object value) {
+    if (element == value) return true;
+    if (element == null || value == null) return false;
+    return compare(element, value) == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(Object actual, Object other) {
+    return comparator.compare(actual, other);
+  }
+
   /**
    * Returns true if actual and other are equal according to {@link #comparator}, false otherwise.<br>
    * Handles the cases where one of the parameter is null so that internal {@link #comparator} does not have too.
@@ -132,16 +257,45 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   }
 
   /**
-   * Returns any duplicate elements from the given {@link Iterable} according to {@link #comparator}.
+   * Returns any duplicate elements from the given {@link Iterable} according to {@link #comparator}, in the order their
+   * second occurrence is found.
+   * <p>
+   * Elements are sorted with {@link #comparator} so that duplicates end up next to each other, this takes
+   * O(n log n) comparisons.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
    *         empty {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
-    return super.duplicatesFrom(iterable);
+    // these comparators only tell whether objects are equal, the value returned otherwise is not relevant for ordering
+    if (isNullOrEmpty(iterable) || comparator instanceof FieldByFieldComparator
+        || comparator instanceof ExtendedByTypesComparator) {
+      return super.duplicatesFrom(iterable);
+    }
+    List<?> elements = newArrayList(iterable);
+    Integer[] sortedElements;
+    try {
+      // as in a TreeSet, null elements are compared with the comparator
+      sortedElements = sortedIndexes(elements, false);
+    } catch (ClassCastException | IllegalArgumentException e) {
+      // the comparator can't order these elements (IllegalArgumentException is thrown by sort on contract violation)
+      return super.duplicatesFrom(iterable);
+    }
+    // the sort is stable, the second element of a run of equal elements is thus the second occurrence met
+    boolean[] secondOccurrences = new boolean[elements.size()];
+    int runStart = 0;
+    while (runStart < sortedElements.length) {
+      int runEnd = endOfRunOfEquals(elements, sortedElements, runStart);
+      if (runEnd - runStart > 1) secondOccurrences[sortedElements[runStart + 1]] = true;
+      runStart = runEnd;
+    }
+    Set<Object> duplicates = new LinkedHashSet<>();
+    for (int i = 0; i < secondOccurrences.length; i++) {
+      if (secondOccurrences[i]) duplicates.add(elements.get(i));
+    }
+    return duplicates;
   }
 
   @SuppressWarnings("unchecked")
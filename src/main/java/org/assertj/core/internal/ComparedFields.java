@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.internal.Objects.getSharedDeclaredFieldsIncludingInherited;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.Introspection;
+import org.assertj.core.util.introspection.PropertySupport;
+
+/**
+ * Names of the fields compared by field by field comparisons of instances of a class: its declared fields (including
+ * inherited ones) except the ignored ones and the ones that can be read neither directly nor through a public getter.
+ * <p>
+ * Resolving them walks up the class hierarchy to get the declared fields and looks for getters, they are thus cached
+ * per class for the ignored fields and the introspection settings they were resolved with.
+ */
+final class ComparedFields {
+
+  private static final ClassValue<Map<Key, List<String>>> CACHE = new ClassValue<Map<Key, List<String>>>() {
+    @Override
+    protected Map<Key, List<String>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private ComparedFields() {}
+
+  /**
+   * Returns the names of the fields of the given object to compare.
+   *
+   * @param actual the object whose fields are compared
+   * @param ignoredFields the names of the fields not to compare
+   * @return the names of the fields to compare in declaration order.
+   */
+  static List<String> of(Object actual, String... ignoredFields) {
+    FieldSupport fieldSupport = FieldSupport.comparison();
+    Key key = new Key(ignoredFields, fieldSupport.isAllowedToUsePrivateFields(),
+                      Introspection.canExtractBareNamePropertyMethods());
+    return CACHE.get(actual.getClass()).computeIfAbsent(key, k -> resolve(actual, ignoredFields, fieldSupport));
+  }
+
+  private static List<String> resolve(Object actual, String[] ignoredFields, FieldSupport fieldSupport) {
+    PropertySupport propertySupport = PropertySupport.instance();
+    Set<String> ignored = newLinkedHashSet(ignoredFields);
+    List<String> fieldNames = new ArrayList<>();
+    for (Field field : getSharedDeclaredFieldsIncludingInherited(actual.getClass())) {
+      String fieldName = field.getName();
+      if (ignored.contains(fieldName)) continue;
+      // ignore private field if user has decided not to use them in comparison
+      if (fieldSupport.isAllowedToRead(field) || propertySupport.publicGetterExistsFor(fieldName, actual)) {
+        fieldNames.add(fieldName);
+      }
+    }
+    return unmodifiableList(fieldNames);
+  }
+
+  private static final class Key {
+
+    private final List<String> ignoredFields;
+    private final boolean allowUsingPrivateFields;
+    private final boolean bareNamePropertyMethods;
+
+    private Key(String[] ignoredFields, boolean allowUsingPrivateFields, boolean bareNamePropertyMethods) {
+      // copied as the caller may change the array afterwards
+      this.ignoredFields = ignoredFields == null ? null : new ArrayList<>(asList(ignoredFields));
+      this.allowUsingPrivateFields = allowUsingPrivateFields;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return allowUsingPrivateFields == other.allowUsingPrivateFields
+             && bareNamePropertyMethods == other.bareNamePropertyMethods
+             && java.util.Objects.equals(ignoredFields, other.ignoredFields);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = java.util.Objects.hashCode(ignoredFields);
+      result = 31 * result + Boolean.hashCode(allowUsingPrivateFields);
+      return 31 * result + Boolean.hashCode(bareNamePropertyMethods);
+    }
+  }
+}
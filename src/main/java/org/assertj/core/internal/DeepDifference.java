@@ -13,7 +13,10 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
+import static java.util.Arrays.asList;
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.internal.Objects.getSharedDeclaredFieldsIncludingInherited;
+import static org.assertj.core.internal.Objects.getDeclaredFieldsNamesIncludingInherited;
 import static org.assertj.core.internal.Objects.propertyOrFieldValuesAreEqual;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Sets.newHashSet;
@@ -22,15 +25,14 @@ import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARI
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +41,8 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Tests two objects for differences by doing a 'deep' comparison.
@@ -50,50 +54,437 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DeepDifference {
 
+  // depth of fields taken into account to compute the fingerprint of unordered collection elements
+  private static final int MAX_FINGERPRINT_DEPTH = 3;
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these:%s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
+  private static volatile boolean parallelComparison;
 
   private final static class DualKey {
 
-    private final List<String> path;
+    private final FieldPath path;
     private final Object key1;
     private final Object key2;
 
-    private DualKey(List<String> path, Object key1, Object key2) {
+    private DualKey(FieldPath path, Object key1, Object key2) {
       this.path = path;
       this.key1 = key1;
       this.key2 = key2;
     }
 
     @Override
-    public boolean equals(Object other) {
-      if (!(other instanceof DualKey)) {
-        return false;
+    public String toString() {
+      return "DualKey [key1=" + key1 + ", key2=" + key2 + "]";
+    }
+
+    public List<String> getPath() {
+      return path.toList();
+    }
+
+    public String getConcatenatedPath() {
+      return path.concatenated();
+    }
+  }
+
+  /**
+   * Path of compared values as a chain of field names pointing to the path of their parent, elements of arrays,
+   * collections and maps share the path of their container.
+   * <p>
+   * Paths are only turned into lists of field names when a difference is reported.
+   */
+  private final static class FieldPath {
+
+    private static final FieldPath ROOT = new FieldPath(null, null);
+
+    private final FieldPath parent;
+    private final String fieldName;
+    private final int depth;
+    // computed on demand as most paths are never printed
+    private String concatenatedPath;
+
+    private FieldPath(FieldPath parent, String fieldName) {
+      this.parent = parent;
+      this.fieldName = fieldName;
+      this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    FieldPath child(String fieldName) {
+      return new FieldPath(this, fieldName);
+    }
+
+    List<String> toList() {
+      String[] fieldNames = new String[depth];
+      for (FieldPath path = this; path.parent != null; path = path.parent) {
+        fieldNames[path.depth - 1] = path.fieldName;
       }
+      return new ArrayList<>(asList(fieldNames));
+    }
 
-      DualKey that = (DualKey) other;
-      return key1 == that.key1 && key2 == that.key2;
+    String concatenated() {
+      if (concatenatedPath == null) concatenatedPath = join(toList()).with(".");
+      return concatenatedPath;
     }
+  }
 
-    @Override
-    public int hashCode() {
-      int h1 = key1 != null ? key1.hashCode() : 0;
-      int h2 = key2 != null ? key2.hashCode() : 0;
-      return h1 + h2;
+  /**
+   * Set of the pairs of objects already compared, pairs are compared and hashed by identity and stored in an open
+   * addressing table to avoid allocating an entry for each pair or a key to look a pair up.
+   */
+  private final static class VisitedPairs {
+
+    private static final Object NULL_KEY = new Object();
+    // small as a table is allocated for each comparison of unordered collection elements
+    private static final int INITIAL_CAPACITY = 16;
+
+    // the two objects of a pair are stored next to each other
+    private Object[] table = new Object[2 * INITIAL_CAPACITY];
+    private int size;
+
+    boolean contains(Object key1, Object key2) {
+      Object k1 = maskNull(key1);
+      Object k2 = maskNull(key2);
+      int mask = capacity() - 1;
+      for (int i = hash(k1, k2) & mask;; i = (i + 1) & mask) {
+        Object storedKey1 = table[2 * i];
+        if (storedKey1 == null) return false;
+        if (storedKey1 == k1 && table[2 * i + 1] == k2) return true;
+      }
+    }
+
+    void add(Object key1, Object key2) {
+      Object k1 = maskNull(key1);
+      Object k2 = maskNull(key2);
+      int mask = capacity() - 1;
+      int i = hash(k1, k2) & mask;
+      for (; table[2 * i] != null; i = (i + 1) & mask) {
+        if (table[2 * i] == k1 && table[2 * i + 1] == k2) return;
+      }
+      table[2 * i] = k1;
+      table[2 * i + 1] = k2;
+      // keep at least half of the slots free to keep probe sequences short
+      if (++size > capacity() / 2) resize();
+    }
+
+    private int capacity() {
+      return table.length / 2;
+    }
+
+    private void resize() {
+      Object[] oldTable = table;
+      table = new Object[2 * oldTable.length];
+      int mask = capacity() - 1;
+      for (int j = 0; j < oldTable.length; j += 2) {
+        Object k1 = oldTable[j];
+        if (k1 == null) continue;
+        Object k2 = oldTable[j + 1];
+        int i = hash(k1, k2) & mask;
+        while (table[2 * i] != null) {
+          i = (i + 1) & mask;
+        }
+        table[2 * i] = k1;
+        table[2 * i + 1] = k2;
+      }
+    }
+
+    void addAll(VisitedPairs pairs) {
+      for (int i = 0; i < pairs.table.length; i += 2) {
+        if (pairs.table[i] != null) add(pairs.table[i], pairs.table[i + 1]);
+      }
+    }
+
+    boolean containsAny(VisitedPairs pairs) {
+      for (int i = 0; i < pairs.table.length; i += 2) {
+        if (pairs.table[i] != null && contains(pairs.table[i], pairs.table[i + 1])) return true;
+      }
+      return false;
+    }
+
+    private static Object maskNull(Object key) {
+      return key == null ? NULL_KEY : key;
+    }
+
+    private static int hash(Object key1, Object key2) {
+      int hash = 31 * System.identityHashCode(key1) + System.identityHashCode(key2);
+      // spread high bits as the table index only uses the low ones
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  /**
+   * State shared by the comparisons done by a {@link #determineDifferences(Object, Object, Map, TypeComparators)} call,
+   * including the comparisons of unordered collection elements to find equivalent ones.
+   */
+  private final static class ComparisonState {
+
+    private final DeepHashCodes deepHashCodes = new DeepHashCodes();
+    // pairs of unordered collection elements being compared, from the outermost to the innermost
+    private final Deque<DualKey> elementsBeingMatched = new ArrayDeque<>();
+
+    boolean isBeingMatched(Object element1, Object element2) {
+      for (DualKey pair : elementsBeingMatched) {
+        if (pair.key1 == element1 && pair.key2 == element2) return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Deep hash codes of the objects hashed during a comparison, memoized by identity so that objects referenced from
+   * several places (elements of several unordered collections, map keys, shared sub-graphs ...) are hashed once.
+   * <p>
+   * The deep hash code of an object is the sum of the deep hash codes of the objects it references, computed bottom-up
+   * (depth-first with an explicit stack to handle deep graphs). Objects whose graph has a cycle all have the same deep
+   * hash code: equivalent cyclic graphs may have a different number of objects (an object referencing itself is
+   * equivalent to two objects referencing each other), so they can't be told apart by summing hash codes, and the hash
+   * code of an object does not depend on where the hashing started.
+   */
+  private final static class DeepHashCodes {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int CYCLIC_GRAPH_HASH_CODE = Integer.MIN_VALUE;
+
+    // open addressing table of the hashed objects by identity
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+    private int[] hashCodes = new int[INITIAL_CAPACITY];
+    private boolean[] cyclic = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    int of(Object obj) {
+      if (isLeaf(obj)) return leafHashCode(obj);
+      int slot = slotOf(obj);
+      if (objects[slot] != null) return hashCodes[slot];
+
+      Deque<Node> stack = new ArrayDeque<>();
+      Set<Object> beingHashed = newSetFromMap(new IdentityHashMap<>());
+      stack.push(new Node(obj));
+      beingHashed.add(obj);
+      while (true) {
+        Node node = stack.peek();
+        if (node.nextChild < node.children.length) {
+          Object child = node.children[node.nextChild++];
+          if (isLeaf(child)) {
+            node.hashCode += leafHashCode(child);
+            continue;
+          }
+          if (beingHashed.contains(child)) {
+            node.hasCycle = true;
+            continue;
+          }
+          slot = slotOf(child);
+          if (objects[slot] != null) {
+            node.hashCode += hashCodes[slot];
+            node.hasCycle |= cyclic[slot];
+            continue;
+          }
+          beingHashed.add(child);
+          stack.push(new Node(child));
+          continue;
+        }
+        stack.pop();
+        beingHashed.remove(node.obj);
+        if (node.hasCycle) node.hashCode = CYCLIC_GRAPH_HASH_CODE;
+        put(node.obj, node.hashCode, node.hasCycle);
+        if (stack.isEmpty()) return node.hashCode;
+        Node parent = stack.peek();
+        parent.hashCode += node.hashCode;
+        parent.hasCycle |= node.hasCycle;
+      }
+    }
+
+    private static boolean isLeaf(Object obj) {
+      if (obj == null) return true;
+      if (obj.getClass().isArray() || obj instanceof Collection || obj instanceof Map) return false;
+      return obj instanceof Double || obj instanceof Float || hasCustomHashCode(obj.getClass());
+    }
+
+    private static int leafHashCode(Object obj) {
+      if (obj == null) return 0;
+      // just take the integral value for hashcode
+      // equality tests things more comprehensively
+      if (obj instanceof Double || obj instanceof Float) return Long.hashCode(Math.round(((Number) obj).doubleValue()));
+      // A real hashCode() method exists, call it.
+      return obj.hashCode();
+    }
+
+    private int slotOf(Object obj) {
+      int mask = objects.length - 1;
+      int slot = System.identityHashCode(obj) & mask;
+      while (objects[slot] != null && objects[slot] != obj) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void put(Object obj, int hashCode, boolean hasCycle) {
+      int slot = slotOf(obj);
+      objects[slot] = obj;
+      hashCodes[slot] = hashCode;
+      cyclic[slot] = hasCycle;
+      // keep at least half of the slots free to keep probe sequences short
+      if (++size > objects.length / 2) resize();
+    }
+
+    private void resize() {
+      Object[] oldObjects = objects;
+      int[] oldHashCodes = hashCodes;
+      boolean[] oldCyclic = cyclic;
+      objects = new Object[2 * oldObjects.length];
+      hashCodes = new int[2 * oldObjects.length];
+      cyclic = new boolean[2 * oldObjects.length];
+      for (int i = 0; i < oldObjects.length; i++) {
+        if (oldObjects[i] == null) continue;
+        int slot = slotOf(oldObjects[i]);
+        objects[slot] = oldObjects[i];
+        hashCodes[slot] = oldHashCodes[i];
+        cyclic[slot] = oldCyclic[i];
+      }
+    }
+
+    private static final class Node {
+
+      private final Object obj;
+      private final Object[] children;
+      private int nextChild;
+      private int hashCode;
+      private boolean hasCycle;
+
+      private Node(Object obj) {
+        this.obj = obj;
+        this.children = childrenOf(obj);
+      }
+
+      private static Object[] childrenOf(Object obj) {
+        if (obj.getClass().isArray()) {
+          int length = Array.getLength(obj);
+          Object[] elements = new Object[length];
+          for (int i = 0; i < length; i++) {
+            elements[i] = Array.get(obj, i);
+          }
+          return elements;
+        }
+        if (obj instanceof Collection) return ((Collection<?>) obj).toArray();
+        if (obj instanceof Map) {
+          Map<?, ?> map = (Map<?, ?>) obj;
+          List<Object> keysAndValues = new ArrayList<>(2 * map.size());
+          keysAndValues.addAll(map.keySet());
+          keysAndValues.addAll(map.values());
+          return keysAndValues.toArray();
+        }
+        Collection<Field> fields = getSharedDeclaredFieldsIncludingInherited(obj.getClass());
+        Object[] fieldValues = new Object[fields.size()];
+        int i = 0;
+        for (Field field : fields) {
+          fieldValues[i++] = COMPARISON.getSimpleValue(field.getName(), obj);
+        }
+        return fieldValues;
+      }
+    }
+  }
+
+  /**
+   * Compares pairs of values in a fork/join task, the comparison of the values of pairs having many elements or fields
+   * to compare is split in subtasks.
+   * <p>
+   * Differences must be the same and in the same order as when comparing sequentially, the results of subtasks are thus
+   * merged in the order their pairs would have been compared sequentially. A subtask starts without visited pairs, so
+   * it may compare pairs already compared before it that the sequential comparison would have skipped:
+   * <ul>
+   * <li>if these pairs had no values to compare next, the differences found for them are ignored (except for the pairs
+   * the subtask started with which, as the pairs of a stack, are compared even if they were visited since pushed)</li>
+   * <li>otherwise the pairs of the subtask are compared again sequentially, with the pairs compared before them as
+   * visited pairs.</li>
+   * </ul>
+   */
+  private final static class ParallelComparison extends RecursiveTask<ParallelComparison> {
+
+    private static final long serialVersionUID = 1L;
+
+    // minimum number of pairs to compare in subtasks
+    private static final int SPLIT_THRESHOLD = 8;
+    private static final int MAX_SPLIT_DEPTH = 4;
+
+    // in comparison order
+    private final List<DualKey> pairs;
+    private final int depth;
+    private final Map<String, Comparator<?>> comparatorByPropertyOrField;
+    private final TypeComparators comparatorByType;
+
+    private final List<Difference> differences = new ArrayList<>();
+    private final VisitedPairs visited = new VisitedPairs();
+    // the pairs whose comparison added pairs to compare
+    private final VisitedPairs expanded = new VisitedPairs();
+
+    private ParallelComparison(List<DualKey> pairs, int depth, Map<String, Comparator<?>> comparatorByPropertyOrField,
+                               TypeComparators comparatorByType) {
+      this.pairs = pairs;
+      this.depth = depth;
+      this.comparatorByPropertyOrField = comparatorByPropertyOrField;
+      this.comparatorByType = comparatorByType;
     }
 
     @Override
-    public String toString() {
-      return "DualKey [key1=" + key1 + ", key2=" + key2 + "]";
+    protected ParallelComparison compute() {
+      ComparisonState state = new ComparisonState();
+      // only the root task splits the pairs it starts with, subtasks already got their share of pairs
+      if (depth == 0 && pairs.size() >= SPLIT_THRESHOLD) {
+        compareInSubtasks(pairs, state);
+      } else {
+        compareAll(new ArrayDeque<>(pairs), state, true);
+      }
+      return this;
     }
 
-    public List<String> getPath() {
-      return path;
+    private void compareAll(Deque<DualKey> toCompare, ComparisonState state, boolean split) {
+      while (!toCompare.isEmpty()) {
+        DualKey dualKey = toCompare.removeFirst();
+        int stackSize = toCompare.size();
+        compare(dualKey, toCompare, visited, differences, comparatorByPropertyOrField, comparatorByType, state);
+        int added = toCompare.size() - stackSize;
+        if (added > 0) expanded.add(dualKey.key1, dualKey.key2);
+        if (split && added >= SPLIT_THRESHOLD && depth < MAX_SPLIT_DEPTH) {
+          List<DualKey> addedPairs = new ArrayList<>(added);
+          for (int i = 0; i < added; i++) {
+            addedPairs.add(toCompare.removeFirst());
+          }
+          compareInSubtasks(addedPairs, state);
+        }
+      }
     }
 
-    public String getConcatenatedPath() {
-      return join(path).with(".");
+    private void compareInSubtasks(List<DualKey> pairsToCompare, ComparisonState state) {
+      int count = pairsToCompare.size();
+      int subtaskCount = Math.min(count, 4 * ForkJoinPool.getCommonPoolParallelism());
+      List<ParallelComparison> subtasks = new ArrayList<>(subtaskCount);
+      for (int i = 0; i < subtaskCount; i++) {
+        List<DualKey> subtaskPairs = pairsToCompare.subList(i * count / subtaskCount, (i + 1) * count / subtaskCount);
+        subtasks.add(new ParallelComparison(subtaskPairs, depth + 1, comparatorByPropertyOrField, comparatorByType));
+      }
+      invokeAll(subtasks);
+      for (ParallelComparison subtask : subtasks) {
+        merge(subtask, state);
+      }
+    }
+
+    private void merge(ParallelComparison subtask, ComparisonState state) {
+      if (visited.containsAny(subtask.expanded)) {
+        compareAll(new ArrayDeque<>(subtask.pairs), state, false);
+        return;
+      }
+      for (Difference difference : subtask.differences) {
+        if (!visited.contains(difference.actual, difference.other) || subtask.startsWith(difference)) {
+          differences.add(difference);
+        }
+      }
+      visited.addAll(subtask.visited);
+      expanded.addAll(subtask.expanded);
+    }
+
+    private boolean startsWith(Difference difference) {
+      for (DualKey pair : pairs) {
+        if (pair.key1 == difference.actual && pair.key2 == difference.other) return true;
+      }
+      return false;
     }
   }
 
@@ -139,6 +530,58 @@ public class DeepDifference {
     }
   }
 
+  /**
+   * Differences found by a comparison done within {@link RecursiveComparisonLimits}.
+   */
+  public static class LimitedDifferences {
+
+    private final RecursiveComparisonLimits limits;
+    private final List<Difference> differences = new ArrayList<>();
+    private int omittedDifferences;
+    private boolean maxDepthReached;
+    private boolean maxComparedValuesReached;
+
+    LimitedDifferences(RecursiveComparisonLimits limits) {
+      this.limits = limits;
+    }
+
+    public RecursiveComparisonLimits getLimits() {
+      return limits;
+    }
+
+    /**
+     * @return the reported differences, at most the max number of reported differences.
+     */
+    public List<Difference> getDifferences() {
+      return differences;
+    }
+
+    /**
+     * @return the number of differences found but not reported.
+     */
+    public int getOmittedDifferences() {
+      return omittedDifferences;
+    }
+
+    /**
+     * @return whether some values were not compared as they were nested deeper than the max depth.
+     */
+    public boolean isMaxDepthReached() {
+      return maxDepthReached;
+    }
+
+    /**
+     * @return whether the comparison stopped before comparing all values as the max compared values was reached.
+     */
+    public boolean isMaxComparedValuesReached() {
+      return maxComparedValuesReached;
+    }
+
+    public boolean isEmpty() {
+      return differences.isEmpty();
+    }
+  }
+
   /**
    * Compare two objects for differences by doing a 'deep' comparison. This will traverse the
    * Object graph and perform either a field-by-field comparison on each
@@ -169,205 +612,306 @@ public class DeepDifference {
         ? new TreeMap<>()
         : comparatorByPropertyOrField;
     comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
-    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType);
+    if (parallelComparison) {
+      Deque<DualKey> toCompare = initStack(a, b, null, comparatorByPropertyOrField, comparatorByType);
+      ParallelComparison comparison = new ParallelComparison(new ArrayList<>(toCompare), 0,
+                                                             comparatorByPropertyOrField, comparatorByType);
+      return ForkJoinPool.commonPool().invoke(comparison).differences;
+    }
+    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType, new ComparisonState(),
+                                false);
   }
 
-  private static List<Difference> determineDifferences(Object a, Object b, List<String> parentPath,
+  /**
+   * Compare two objects for differences like {@link #determineDifferences(Object, Object, Map, TypeComparators)} does
+   * but within the given limits: values nested deeper than the max depth are not compared, the comparison stops once
+   * the max number of values have been compared and the differences found after the max number of reported ones are
+   * only counted.
+   * <p>
+   * Values are compared sequentially even if parallel comparison is enabled.
+   *
+   * @param a Object one to compare
+   * @param b Object two to compare
+   * @param comparatorByPropertyOrField comparators to compare properties or fields with the given names
+   * @param comparatorByType comparators to compare properties or fields with the given types
+   * @param limits the limits of the comparison
+   * @return the differences found within the limits and whether some limits were reached.
+   */
+  public static LimitedDifferences determineDifferences(Object a, Object b,
+                                                        Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                                        TypeComparators comparatorByType,
+                                                        RecursiveComparisonLimits limits) {
+    comparatorByPropertyOrField = comparatorByPropertyOrField == null
+        ? new TreeMap<>()
+        : comparatorByPropertyOrField;
+    comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
+    final LimitedDifferences limitedDifferences = new LimitedDifferences(limits);
+    final List<Difference> differences = limitedDifferences.differences;
+    final VisitedPairs visited = new VisitedPairs();
+    final Deque<DualKey> toCompare = initStack(a, b, null, comparatorByPropertyOrField, comparatorByType);
+    final ComparisonState state = new ComparisonState();
+
+    int comparedValues = 0;
+    while (!toCompare.isEmpty()) {
+      if (comparedValues == limits.getMaxComparedValues()) {
+        limitedDifferences.maxComparedValuesReached = true;
+        break;
+      }
+      DualKey dualKey = toCompare.removeFirst();
+      if (dualKey.path.depth > limits.getMaxDepth()) {
+        limitedDifferences.maxDepthReached = true;
+        continue;
+      }
+      comparedValues++;
+      compare(dualKey, toCompare, visited, differences, comparatorByPropertyOrField, comparatorByType, state);
+      // differences past the max reported ones are only counted to report how many were omitted
+      if (differences.size() > limits.getMaxReportedDifferences()) {
+        differences.remove(differences.size() - 1);
+        limitedDifferences.omittedDifferences++;
+      }
+    }
+    return limitedDifferences;
+  }
+
+  /**
+   * Returns whether the two given objects are deeply equivalent, i.e. whether
+   * {@link #determineDifferences(Object, Object, Map, TypeComparators)} would not find any differences between them.
+   * <p>
+   * The comparison stops at the first difference found, use it when the differences are not reported.
+   *
+   * @param a Object one to compare
+   * @param b Object two to compare
+   * @param comparatorByPropertyOrField comparators to compare properties or fields with the given names
+   * @param comparatorByType comparators to compare properties or fields with the given types
+   * @return true if the objects are equivalent, false otherwise.
+   */
+  public static boolean deepEquals(Object a, Object b, Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                   TypeComparators comparatorByType) {
+    comparatorByPropertyOrField = comparatorByPropertyOrField == null
+        ? new TreeMap<>()
+        : comparatorByPropertyOrField;
+    comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
+    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType, new ComparisonState(),
+                                true).isEmpty();
+  }
+
+  /**
+   * Sets whether {@link #determineDifferences(Object, Object, Map, TypeComparators)} compares the elements and fields
+   * of the compared objects in parallel (in the common {@link ForkJoinPool}) when they have many of them, differences
+   * are reported in the same order as when comparing sequentially.
+   * <p>
+   * This is only worth it for wide object graphs, the comparators used must be thread safe.
+   *
+   * @param parallelComparison whether to compare objects in parallel. Default {@code false}.
+   */
+  public static void setParallelComparison(boolean parallelComparison) {
+    DeepDifference.parallelComparison = parallelComparison;
+  }
+
+  private static List<Difference> determineDifferences(Object a, Object b, FieldPath parentPath,
                                                        Map<String, Comparator<?>> comparatorByPropertyOrField,
-                                                       TypeComparators comparatorByType) {
-    final Set<DualKey> visited = new HashSet<>();
+                                                       TypeComparators comparatorByType, ComparisonState state,
+                                                       boolean stopAtFirstDifference) {
+    final VisitedPairs visited = new VisitedPairs();
     final Deque<DualKey> toCompare = initStack(a, b, parentPath, comparatorByPropertyOrField, comparatorByType);
     final List<Difference> differences = new ArrayList<>();
 
     while (!toCompare.isEmpty()) {
-      final DualKey dualKey = toCompare.removeFirst();
-      visited.add(dualKey);
+      if (stopAtFirstDifference && !differences.isEmpty()) break;
+      compare(toCompare.removeFirst(), toCompare, visited, differences, comparatorByPropertyOrField, comparatorByType,
+              state);
+    }
+    return differences;
+  }
 
-      final List<String> currentPath = dualKey.getPath();
-      final Object key1 = dualKey.key1;
-      final Object key2 = dualKey.key2;
+  /**
+   * Compares the values of the given dualKey, adding the differences found to the given list and the values to compare
+   * next (their elements, entries or fields) to the given stack.
+   */
+  private static void compare(DualKey dualKey, Deque<DualKey> toCompare, VisitedPairs visited,
+                              List<Difference> differences,
+                              Map<String, Comparator<?>> comparatorByPropertyOrField,
+                              TypeComparators comparatorByType, ComparisonState state) {
+    visited.add(dualKey.key1, dualKey.key2);
+
+    final FieldPath currentPath = dualKey.path;
+    final Object key1 = dualKey.key1;
+    final Object key2 = dualKey.key2;
+
+    if (key1 == key2) {
+      return;
+    }
 
-      if (key1 == key2) {
-        continue;
-      }
+    if (hasCustomComparator(dualKey, comparatorByPropertyOrField, comparatorByType)) {
+      if (propertyOrFieldValuesAreEqual(key1, key2, dualKey.getConcatenatedPath(),
+                                        comparatorByPropertyOrField, comparatorByType))
+        return;
+    }
 
-      if (hasCustomComparator(dualKey, comparatorByPropertyOrField, comparatorByType)) {
-        if (propertyOrFieldValuesAreEqual(key1, key2, dualKey.getConcatenatedPath(),
-                                          comparatorByPropertyOrField, comparatorByType))
-          continue;
-      }
+    if (key1 == null || key2 == null) {
+      differences.add(new Difference(currentPath.toList(), key1, key2));
+      return;
+    }
 
-      if (key1 == null || key2 == null) {
-        differences.add(new Difference(currentPath, key1, key2));
-        continue;
+    if (key1 instanceof Collection) {
+      if (!(key2 instanceof Collection)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+    } else if (key2 instanceof Collection) {
+      differences.add(new Difference(currentPath.toList(), key1, key2));
+      return;
+    }
 
-      if (key1 instanceof Collection) {
-        if (!(key2 instanceof Collection)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-      } else if (key2 instanceof Collection) {
-        differences.add(new Difference(currentPath, key1, key2));
-        continue;
+    if (key1 instanceof SortedSet) {
+      if (!(key2 instanceof SortedSet)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+    } else if (key2 instanceof SortedSet) {
+      differences.add(new Difference(currentPath.toList(), key1, key2));
+      return;
+    }
 
-      if (key1 instanceof SortedSet) {
-        if (!(key2 instanceof SortedSet)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-      } else if (key2 instanceof SortedSet) {
-        differences.add(new Difference(currentPath, key1, key2));
-        continue;
+    if (key1 instanceof SortedMap) {
+      if (!(key2 instanceof SortedMap)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+    } else if (key2 instanceof SortedMap) {
+      differences.add(new Difference(currentPath.toList(), key1, key2));
+      return;
+    }
 
-      if (key1 instanceof SortedMap) {
-        if (!(key2 instanceof SortedMap)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-      } else if (key2 instanceof SortedMap) {
-        differences.add(new Difference(currentPath, key1, key2));
-        continue;
+    if (key1 instanceof Map) {
+      if (!(key2 instanceof Map)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+    } else if (key2 instanceof Map) {
+      differences.add(new Difference(currentPath.toList(), key1, key2));
+      return;
+    }
 
-      if (key1 instanceof Map) {
-        if (!(key2 instanceof Map)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-      } else if (key2 instanceof Map) {
-        differences.add(new Difference(currentPath, key1, key2));
-        continue;
+    // Handle all [] types. In order to be equal, the arrays must be the
+    // same length, be of the same type, be in the same order, and all
+    // elements within the array must be deeply equivalent.
+    if (key1.getClass().isArray()) {
+      if (!compareArrays(key1, key2, currentPath, toCompare, visited)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Handle all [] types. In order to be equal, the arrays must be the
-      // same length, be of the same type, be in the same order, and all
-      // elements within the array must be deeply equivalent.
-      if (key1.getClass().isArray()) {
-        if (!compareArrays(key1, key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    // Special handle SortedSets because they are fast to compare
+    // because their elements must be in the same order to be equivalent Sets.
+    if (key1 instanceof SortedSet) {
+      if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Special handle SortedSets because they are fast to compare
-      // because their elements must be in the same order to be equivalent Sets.
-      if (key1 instanceof SortedSet) {
-        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    // Check List, as element order matters this comparison is faster than using unordered comparison.
+    if (key1 instanceof List) {
+      if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Check List, as element order matters this comparison is faster than using unordered comparison.
-      if (key1 instanceof List) {
-        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    // Handle unordered Collection.
+    if (key1 instanceof Collection) {
+      if (!compareUnorderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare,
+                                      visited, comparatorByPropertyOrField, comparatorByType, state)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Handle unordered Collection.
-      if (key1 instanceof Collection) {
-        if (!compareUnorderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare,
-                                        visited, comparatorByPropertyOrField, comparatorByType)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    // Compare two SortedMaps. This takes advantage of the fact that these
+    // Maps can be compared in O(N) time due to their ordering.
+    if (key1 instanceof SortedMap) {
+      if (!compareSortedMap((SortedMap<?, ?>) key1, (SortedMap<?, ?>) key2, currentPath, toCompare, visited)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Compare two SortedMaps. This takes advantage of the fact that these
-      // Maps can be compared in O(N) time due to their ordering.
-      if (key1 instanceof SortedMap) {
-        if (!compareSortedMap((SortedMap<?, ?>) key1, (SortedMap<?, ?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because
+    // order cannot be assumed, therefore a temporary Map must be created, however the
+    // comparison still runs in O(N) time.
+    if (key1 instanceof Map) {
+      if (!compareUnorderedMap((Map<?, ?>) key1, (Map<?, ?>) key2, currentPath, toCompare, visited, state)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because
-      // order cannot be assumed, therefore a temporary Map must be created, however the
-      // comparison still runs in O(N) time.
-      if (key1 instanceof Map) {
-        if (!compareUnorderedMap((Map<?, ?>) key1, (Map<?, ?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
-      }
-
-      if (hasCustomEquals(key1.getClass())) {
-        if (!key1.equals(key2)) {
-          differences.add(new Difference(currentPath, key1, key2));
-          continue;
-        }
-        continue;
+    if (hasCustomEquals(key1.getClass())) {
+      if (!key1.equals(key2)) {
+        differences.add(new Difference(currentPath.toList(), key1, key2));
+        return;
       }
+      return;
+    }
 
-      Set<String> key1FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key1.getClass()));
-      Set<String> key2FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key2.getClass()));
-      if (!key2FieldsNames.containsAll(key1FieldsNames)) {
-        Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
-        key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
-        String missingFields = key1FieldsNamesNotInKey2.toString();
-        String key2ClassName = key2.getClass().getName();
-        String key1ClassName = key1.getClass().getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, key1ClassName, key2ClassName, key2.getClass().getSimpleName(),
-                                                 key1.getClass().getSimpleName(), missingFields);
-        differences.add(new Difference(currentPath, key1, key2, missingFieldsDescription));
-      } else {
-        for (String fieldName : key1FieldsNames) {
-          List<String> path = new ArrayList<>(currentPath);
-          path.add(fieldName);
-          DualKey dk = new DualKey(path,
-                                   COMPARISON.getSimpleValue(fieldName, key1),
-                                   COMPARISON.getSimpleValue(fieldName, key2));
-          if (!visited.contains(dk)) {
-            toCompare.addFirst(dk);
-          }
+    Set<String> key1FieldsNames = getDeclaredFieldsNamesIncludingInherited(key1.getClass());
+    Set<String> key2FieldsNames = getDeclaredFieldsNamesIncludingInherited(key2.getClass());
+    if (!key2FieldsNames.containsAll(key1FieldsNames)) {
+      Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
+      key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
+      String missingFields = key1FieldsNamesNotInKey2.toString();
+      String key2ClassName = key2.getClass().getName();
+      String key1ClassName = key1.getClass().getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, key1ClassName, key2ClassName, key2.getClass().getSimpleName(),
+                                               key1.getClass().getSimpleName(), missingFields);
+      differences.add(new Difference(currentPath.toList(), key1, key2, missingFieldsDescription));
+    } else {
+      for (String fieldName : key1FieldsNames) {
+        Object value1 = COMPARISON.getSimpleValue(fieldName, key1);
+        Object value2 = COMPARISON.getSimpleValue(fieldName, key2);
+        if (!visited.contains(value1, value2)) {
+          toCompare.addFirst(new DualKey(currentPath.child(fieldName), value1, value2));
         }
       }
     }
-
-    return differences;
   }
 
   private static boolean hasCustomComparator(DualKey dualKey, Map<String, Comparator<?>> comparatorByPropertyOrField,
                                              TypeComparators comparatorByType) {
-    String fieldName = dualKey.getConcatenatedPath();
-    if (comparatorByPropertyOrField.containsKey(fieldName)) return true;
+    // don't compute the path when there are no comparators by property or field
+    if (!comparatorByPropertyOrField.isEmpty()
+        && comparatorByPropertyOrField.containsKey(dualKey.getConcatenatedPath())) return true;
     // we know that dualKey.key1 != dualKey.key2 at this point, so one the key is not null
     Class<?> keyType = dualKey.key1 != null ? dualKey.key1.getClass() : dualKey.key2.getClass();
     return comparatorByType.get(keyType) != null;
   }
 
-  private static Deque<DualKey> initStack(Object a, Object b, List<String> parentPath,
+  private static Deque<DualKey> initStack(Object a, Object b, FieldPath parentPath,
                                           Map<String, Comparator<?>> comparatorByPropertyOrField,
                                           TypeComparators comparatorByType) {
-    Deque<DualKey> stack = new LinkedList<>();
+    Deque<DualKey> stack = new ArrayDeque<>();
     boolean isRootObject = parentPath == null;
-    List<String> currentPath = isRootObject ? new ArrayList<>() : parentPath;
+    FieldPath currentPath = isRootObject ? FieldPath.ROOT : parentPath;
     DualKey basicDualKey = new DualKey(currentPath, a, b);
     if (a != null && b != null && !isContainerType(a) && !isContainerType(b)
         && (isRootObject || !hasCustomComparator(basicDualKey, comparatorByPropertyOrField, comparatorByType))) {
       // disregard the equals method and start comparing fields
-      Set<String> aFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(a.getClass()));
+      Set<String> aFieldsNames = getDeclaredFieldsNamesIncludingInherited(a.getClass());
       if (!aFieldsNames.isEmpty()) {
-        Set<String> bFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(b.getClass()));
+        Set<String> bFieldsNames = getDeclaredFieldsNamesIncludingInherited(b.getClass());
         if (!bFieldsNames.containsAll(aFieldsNames)) {
           stack.addFirst(basicDualKey);
         } else {
           for (String fieldName : aFieldsNames) {
-            List<String> fieldPath = new ArrayList<>(currentPath);
-            fieldPath.add(fieldName);
-            DualKey dk = new DualKey(fieldPath,
+            DualKey dk = new DualKey(currentPath.child(fieldName),
                                      COMPARISON.getSimpleValue(fieldName, a),
                                      COMPARISON.getSimpleValue(fieldName, b));
             stack.addFirst(dk);
@@ -382,14 +926,6 @@ public class DeepDifference {
     return stack;
   }
 
-  private static Set<String> getFieldsNames(Collection<Field> fields) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    for (Field field : fields) {
-      fieldNames.add(field.getName());
-    }
-    return fieldNames;
-  }
-
   private static boolean isContainerType(Object o) {
     return o instanceof Collection || o instanceof Map;
   }
@@ -407,18 +943,15 @@ public class DeepDifference {
    * @return true if the two arrays are the same length and contain deeply
    *         equivalent items.
    */
-  private static boolean compareArrays(Object array1, Object array2, List<String> path, Deque<DualKey> toCompare,
-                                       Set<DualKey> visited) {
+  private static boolean compareArrays(Object array1, Object array2, FieldPath path, Deque<DualKey> toCompare,
+                                       VisitedPairs visited) {
     int len = Array.getLength(array1);
     if (len != Array.getLength(array2)) {
       return false;
     }
 
     for (int i = 0; i < len; i++) {
-      DualKey dk = new DualKey(path, Array.get(array1, i), Array.get(array2, i));
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
-      }
+      pushUnvisited(path, Array.get(array1, i), Array.get(array2, i), toCompare, visited);
     }
     return true;
   }
@@ -437,23 +970,26 @@ public class DeepDifference {
    *          sets items will be added to the Stack for further comparison.
    */
   private static <K, V> boolean compareOrderedCollection(Collection<K> col1, Collection<V> col2,
-                                                         List<String> path, Deque<DualKey> toCompare,
-                                                         Set<DualKey> visited) {
+                                                         FieldPath path, Deque<DualKey> toCompare,
+                                                         VisitedPairs visited) {
     if (col1.size() != col2.size()) return false;
 
     Iterator<V> i2 = col2.iterator();
     for (K k : col1) {
-      DualKey dk = new DualKey(path, k, i2.next());
-      if (!visited.contains(dk)) toCompare.addFirst(dk);
+      pushUnvisited(path, k, i2.next(), toCompare, visited);
     }
     return true;
   }
 
   /**
-   * It places one collection into a temporary Map by deepHashCode(), so that it
-   * can walk the other collection and look for each item in the map, which
+   * It groups the items of one collection by deepHashCode() in a temporary Map, so that it
+   * can walk the other collection and look for each item in its group, which
    * runs in O(N) time, rather than an O(N^2) lookup that would occur if each
    * item from collection one was scanned for in collection two.
+   * <p>
+   * Items of a group are taken once, so that duplicates and items with colliding hash codes are all matched;
+   * when a group has more than one remaining item, the item equivalent to the one looked for is found by a deep
+   * comparison.
    * 
    * @param col1 First collection of items to compare
    * @param col2 Second collection of items to compare
@@ -466,24 +1002,31 @@ public class DeepDifference {
    *         the sets items will be added to the Stack for further comparison.
    */
   private static <K, V> boolean compareUnorderedCollectionByHashCodes(Collection<K> col1, Collection<V> col2,
-                                                                      List<String> path, Deque<DualKey> toCompare,
-                                                                      Set<DualKey> visited) {
-    Map<Integer, Object> fastLookup = new HashMap<>();
-    for (Object o : col2) {
-      fastLookup.put(deepHashCode(o), o);
+                                                                      FieldPath path, Deque<DualKey> toCompare,
+                                                                      VisitedPairs visited,
+                                                                      Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                                                      TypeComparators comparatorByType,
+                                                                      ComparisonState state) {
+    Object[] elements2 = col2.toArray();
+    Map<Integer, List<Integer>> fastLookup = new HashMap<>();
+    for (int i = 0; i < elements2.length; i++) {
+      fastLookup.computeIfAbsent(state.deepHashCodes.of(elements2[i]), hashCode -> new ArrayList<>(1)).add(i);
     }
 
     for (Object o : col1) {
-      Object other = fastLookup.get(deepHashCode(o));
-      if (other == null) {
+      List<Integer> others = fastLookup.get(state.deepHashCodes.of(o));
+      if (others == null || others.isEmpty()) {
         // Item not even found in other Collection, no need to continue.
         return false;
       }
 
-      DualKey dk = new DualKey(path, o, other);
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
+      if (others.size() == 1) {
+        pushUnvisited(path, o, elements2[others.remove(0)], toCompare, visited);
+        continue;
       }
+      int match = indexOfEquivalent(o, elements2, others, path, comparatorByPropertyOrField, comparatorByType, state);
+      if (match == -1) return false;
+      others.remove(match);
     }
     return true;
   }
@@ -494,33 +1037,147 @@ public class DeepDifference {
    * collection type is Set and there are passed no custom comparators, there is used
    * comparison on hashcodes basis, otherwise each element from one collection is checked
    * for existence in another one using 'deep' comparison.
+   * <p>
+   * To avoid comparing each element with all the others, elements are first looked for among the elements with the
+   * same {@link #fingerprint(Object, FieldPath, int, Map, TypeComparators) fingerprint}, the remaining ones are then
+   * compared to all the remaining elements of the other collection.
    */
   private static <K, V> boolean compareUnorderedCollection(Collection<K> col1, Collection<V> col2,
-                                                           List<String> path, Deque<DualKey> toCompare,
-                                                           Set<DualKey> visited,
+                                                           FieldPath path, Deque<DualKey> toCompare,
+                                                           VisitedPairs visited,
                                                            Map<String, Comparator<?>> comparatorByPropertyOrField,
-                                                           TypeComparators comparatorByType) {
+                                                           TypeComparators comparatorByType,
+                                                           ComparisonState state) {
     if (col1.size() != col2.size()) return false;
 
     boolean noCustomComparators = comparatorByPropertyOrField.isEmpty() && comparatorByType.isEmpty();
     if (noCustomComparators && col1 instanceof Set) {
       // this comparison is used for performance optimization reasons
-      return compareUnorderedCollectionByHashCodes(col1, col2, path, toCompare, visited);
+      return compareUnorderedCollectionByHashCodes(col1, col2, path, toCompare, visited, comparatorByPropertyOrField,
+                                                   comparatorByType, state);
     }
 
-    Collection<V> col2Copy = new LinkedList<>(col2);
+    Object[] elements2 = col2.toArray();
+    boolean[] matched2 = new boolean[elements2.length];
+    Map<Integer, List<Integer>> col2IndexesByFingerprint = new HashMap<>();
+    for (int i = 0; i < elements2.length; i++) {
+      int fingerprint = fingerprint(elements2[i], path, 0, comparatorByPropertyOrField, comparatorByType);
+      col2IndexesByFingerprint.computeIfAbsent(fingerprint, key -> new ArrayList<>(1)).add(i);
+    }
+
+    List<Object> col1Unmatched = new ArrayList<>();
     for (Object o1 : col1) {
-      Iterator<V> iterator = col2Copy.iterator();
-      while (iterator.hasNext()) {
-        Object o2 = iterator.next();
-        if (determineDifferences(o1, o2, path, comparatorByPropertyOrField, comparatorByType).isEmpty()) {
-          iterator.remove();
-          break;
-        }
+      List<Integer> candidates = col2IndexesByFingerprint.get(fingerprint(o1, path, 0, comparatorByPropertyOrField,
+                                                                          comparatorByType));
+      int match = candidates == null ? -1
+          : indexOfEquivalent(o1, elements2, candidates, path, comparatorByPropertyOrField, comparatorByType, state);
+      if (match == -1) {
+        col1Unmatched.add(o1);
+      } else {
+        matched2[candidates.remove(match)] = true;
+      }
+    }
+
+    // fingerprints don't account for everything comparators can consider equivalent (e.g. values of different
+    // types), remaining elements are thus compared to all the remaining elements of the other collection.
+    List<Integer> col2Unmatched = new ArrayList<>();
+    if (!col1Unmatched.isEmpty()) {
+      for (int i = 0; i < elements2.length; i++) {
+        if (!matched2[i]) col2Unmatched.add(i);
+      }
+    }
+    for (Object o1 : col1Unmatched) {
+      int match = indexOfEquivalent(o1, elements2, col2Unmatched, path, comparatorByPropertyOrField,
+                                    comparatorByType, state);
+      // an element without equivalent means the collections differ, no need to look at the others
+      if (match == -1) return false;
+      col2Unmatched.remove(match);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the position in {@code candidates} of the first index of an element deeply equivalent to {@code o},
+   * or -1 if there is none.
+   */
+  private static int indexOfEquivalent(Object o, Object[] elements, List<Integer> candidates, FieldPath path,
+                                       Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                       TypeComparators comparatorByType, ComparisonState state) {
+    for (int i = 0; i < candidates.size(); i++) {
+      Object candidate = elements[candidates.get(i)];
+      // comparing elements again while they are being compared would never end, consider them equivalent as done
+      // when a cycle is met
+      if (state.isBeingMatched(o, candidate)) return i;
+      state.elementsBeingMatched.push(new DualKey(path, o, candidate));
+      try {
+        // only whether elements are equivalent matters, no need to look for all their differences
+        List<Difference> differences = determineDifferences(o, candidate, path, comparatorByPropertyOrField,
+                                                            comparatorByType, state, true);
+        if (differences.isEmpty()) return i;
+      } finally {
+        state.elementsBeingMatched.pop();
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Computes a hash code of the given value such that values without differences have the same fingerprint (unless
+   * they have different types), it is used to find the candidates to deeply compare an element of an unordered
+   * collection to.
+   * <p>
+   * Values compared with a custom comparator and null values (custom comparators may consider them equal to any value)
+   * all have the same fingerprint, as do values with a custom equals method but not hashCode. Only the size of nested
+   * containers and only the first levels of fields are taken into account to keep it cheap.
+   */
+  private static int fingerprint(Object value, FieldPath path, int depth,
+                                 Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                 TypeComparators comparatorByType) {
+    if (value == null) return 0;
+    if (!comparatorByPropertyOrField.isEmpty()
+        && comparatorByPropertyOrField.containsKey(path.concatenated())) return 0;
+    if (comparatorByType.get(value.getClass()) != null) return 0;
+    if (value.getClass().isArray()) {
+      int length = Array.getLength(value);
+      if (depth > 0) return length;
+      int hash = 0;
+      for (int i = 0; i < length; i++) {
+        hash += fingerprint(Array.get(value, i), path, depth + 1, comparatorByPropertyOrField, comparatorByType);
+      }
+      return hash;
+    }
+    // element fingerprints are summed as the order of elements does not always matter
+    if (value instanceof Collection) {
+      if (depth > 0) return ((Collection<?>) value).size();
+      int hash = 0;
+      for (Object element : (Collection<?>) value) {
+        hash += fingerprint(element, path, depth + 1, comparatorByPropertyOrField, comparatorByType);
+      }
+      return hash;
+    }
+    if (value instanceof Map) {
+      if (depth > 0) return ((Map<?, ?>) value).size();
+      int hash = 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        hash += 31 * fingerprint(entry.getKey(), path, depth + 1, comparatorByPropertyOrField, comparatorByType)
+                + fingerprint(entry.getValue(), path, depth + 1, comparatorByPropertyOrField, comparatorByType);
       }
+      return hash;
+    }
+    if (hasCustomEquals(value.getClass())) return hasCustomHashCode(value.getClass()) ? value.hashCode() : 0;
+    if (depth >= MAX_FINGERPRINT_DEPTH) return 0;
+    int hash = 0;
+    for (Field field : getSharedDeclaredFieldsIncludingInherited(value.getClass())) {
+      String fieldName = field.getName();
+      hash = 31 * hash + fingerprint(COMPARISON.getSimpleValue(fieldName, value), path.child(fieldName), depth + 1,
+                                     comparatorByPropertyOrField, comparatorByType);
     }
+    return hash;
+  }
 
-    return col2Copy.isEmpty();
+  private static void pushUnvisited(FieldPath path, Object key1, Object key2, Deque<DualKey> toCompare,
+                                    VisitedPairs visited) {
+    if (!visited.contains(key1, key2)) toCompare.addFirst(new DualKey(path, key1, key2));
   }
 
   /**
@@ -538,8 +1195,8 @@ public class DeepDifference {
    *         the contents of the Maps on the stack for further comparisons.
    */
   private static <K1, V1, K2, V2> boolean compareSortedMap(SortedMap<K1, V1> map1, SortedMap<K2, V2> map2,
-                                                           List<String> path, Deque<DualKey> toCompare,
-                                                           Set<DualKey> visited) {
+                                                           FieldPath path, Deque<DualKey> toCompare,
+                                                           VisitedPairs visited) {
     if (map1.size() != map2.size()) {
       return false;
     }
@@ -549,15 +1206,8 @@ public class DeepDifference {
       Map.Entry<K2, V2> entry2 = i2.next();
 
       // Must split the Key and Value so that Map.Entry's equals() method is not used.
-      DualKey dk = new DualKey(path, entry1.getKey(), entry2.getKey());
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
-      }
-
-      dk = new DualKey(path, entry1.getValue(), entry2.getValue());
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
-      }
+      pushUnvisited(path, entry1.getKey(), entry2.getKey(), toCompare, visited);
+      pushUnvisited(path, entry1.getValue(), entry2.getValue(), toCompare, visited);
     }
     return true;
   }
@@ -577,8 +1227,8 @@ public class DeepDifference {
    *         the contents of the Maps on the stack for further comparisons.
    */
   private static <K1, V1, K2, V2> boolean compareUnorderedMap(Map<K1, V1> map1, Map<K2, V2> map2,
-                                                              List<String> path, Deque<DualKey> toCompare,
-                                                              Set<DualKey> visited) {
+                                                              FieldPath path, Deque<DualKey> toCompare,
+                                                              VisitedPairs visited, ComparisonState state) {
     if (map1.size() != map2.size()) {
       return false;
     }
@@ -586,24 +1236,17 @@ public class DeepDifference {
     Map<Integer, Map.Entry<K2, V2>> fastLookup = new HashMap<>();
 
     for (Map.Entry<K2, V2> entry : map2.entrySet()) {
-      fastLookup.put(deepHashCode(entry.getKey()), entry);
+      fastLookup.put(state.deepHashCodes.of(entry.getKey()), entry);
     }
 
     for (Map.Entry<K1, V1> entry : map1.entrySet()) {
-      Map.Entry<K2, V2> other = fastLookup.get(deepHashCode(entry.getKey()));
+      Map.Entry<K2, V2> other = fastLookup.get(state.deepHashCodes.of(entry.getKey()));
       if (other == null) {
         return false;
       }
 
-      DualKey dk = new DualKey(path, entry.getKey(), other.getKey());
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
-      }
-
-      dk = new DualKey(path, entry.getValue(), other.getValue());
-      if (!visited.contains(dk)) {
-        toCompare.addFirst(dk);
-      }
+      pushUnvisited(path, entry.getKey(), other.getKey(), toCompare, visited);
+      pushUnvisited(path, entry.getValue(), other.getValue(), toCompare, visited);
     }
 
     return true;
@@ -645,67 +1288,20 @@ public class DeepDifference {
    * how many times it is created.<br>
    * <br>
    *
-   * This method will handle cycles correctly (A-&gt;B-&gt;C-&gt;A). In this
-   * case, Starting with object A, B, or C would yield the same hashCode. If
-   * an object encountered (root, subobject, etc.) has a hashCode() method on
+   * This method will handle cycles correctly (A-&gt;B-&gt;C-&gt;A). All the
+   * objects whose graph has a cycle have the same hashCode, so starting with
+   * object A, B, or C yields the same hashCode. If an object encountered (root, subobject, etc.) has a hashCode() method on
    * it (that is not Object.hashCode()), that hashCode() method will be called
    * and it will stop traversal on that branch.
+   * <p>
+   * During a comparison, deep hash codes are computed with the {@link DeepHashCodes} of the comparison so that shared
+   * objects are only hashed once.
    * 
    * @param obj Object who hashCode is desired.
    * @return the 'deep' hashCode value for the passed in object.
    */
   static int deepHashCode(Object obj) {
-    Set<Object> visited = new HashSet<>();
-    LinkedList<Object> stack = new LinkedList<>();
-    stack.addFirst(obj);
-    int hash = 0;
-
-    while (!stack.isEmpty()) {
-      obj = stack.removeFirst();
-      if (obj == null || visited.contains(obj)) {
-        continue;
-      }
-
-      visited.add(obj);
-
-      if (obj.getClass().isArray()) {
-        int len = Array.getLength(obj);
-        for (int i = 0; i < len; i++) {
-          stack.addFirst(Array.get(obj, i));
-        }
-        continue;
-      }
-
-      if (obj instanceof Collection) {
-        stack.addAll(0, (Collection<?>) obj);
-        continue;
-      }
-
-      if (obj instanceof Map) {
-        stack.addAll(0, ((Map<?, ?>) obj).keySet());
-        stack.addAll(0, ((Map<?, ?>) obj).values());
-        continue;
-      }
-
-      if (obj instanceof Double || obj instanceof Float) {
-        // just take the integral value for hashcode
-        // equality tests things more comprehensively
-        stack.add(Math.round(((Number) obj).doubleValue()));
-        continue;
-      }
-
-      if (hasCustomHashCode(obj.getClass())) {
-        // A real hashCode() method exists, call it.
-        hash += obj.hashCode();
-        continue;
-      }
-
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
-      }
-    }
-    return hash;
+    return new DeepHashCodes().of(obj);
   }
 
   /**
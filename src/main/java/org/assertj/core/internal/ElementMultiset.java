@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Arrays.isArray;
+import static org.assertj.core.util.Objects.HASH_CODE_PRIME;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.core.util.Objects;
+
+/**
+ * Hash based multiset (element -&gt; number of occurrences) honoring {@link StandardComparisonStrategy} equality, that is
+ * {@link Objects#areEqual(Object, Object)} which compares arrays by content.
+ * <p>
+ * It can only be used when {@link #canIndex(ComparisonStrategy, Iterable, Iterable)} returns true, i.e. when the
+ * comparison strategy is the standard one and all elements have a {@code hashCode} consistent with their
+ * {@code equals}; otherwise callers must fall back to {@link ComparisonStrategy} based linear lookups.
+ */
+final class ElementMultiset {
+
+  // equals/hashCode consistency only depends on the class, compute it once per class.
+  private static final ClassValue<Boolean> HASHABLE_TYPES = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        Class<?> equalsDeclaringClass = type.getMethod("equals", Object.class).getDeclaringClass();
+        Class<?> hashCodeDeclaringClass = type.getMethod("hashCode").getDeclaringClass();
+        // hashCode must be defined at the same level or below equals in the type hierarchy to be consistent with it
+        return equalsDeclaringClass.isAssignableFrom(hashCodeDeclaringClass);
+      } catch (NoSuchMethodException | SecurityException e) {
+        return false;
+      }
+    }
+  };
+
+  private final Map<Element, Integer> counts = new HashMap<>();
+
+  ElementMultiset() {}
+
+  /**
+   * Returns true if elements can be indexed by hash code, i.e. if the comparison strategy is the standard one and all the
+   * given elements have a {@code hashCode} consistent with their {@code equals} method.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param elements elements to index or to look up
+   * @param values other elements to index or to look up
+   * @return true if elements can be indexed by hash code, false otherwise.
+   */
+  static boolean canIndex(ComparisonStrategy comparisonStrategy, Iterable<?> elements, Iterable<?> values) {
+    return canIndex(comparisonStrategy, elements) && allHashable(values);
+  }
+
+  static boolean canIndex(ComparisonStrategy comparisonStrategy, Iterable<?> elements) {
+    return comparisonStrategy.isStandard() && allHashable(elements);
+  }
+
+  private static boolean allHashable(Iterable<?> elements) {
+    for (Object element : elements) {
+      if (!isHashable(element)) return false;
+    }
+    return true;
+  }
+
+  static ElementMultiset of(Iterable<?> elements) {
+    ElementMultiset multiset = new ElementMultiset();
+    for (Object element : elements) {
+      multiset.add(element);
+    }
+    return multiset;
+  }
+
+  /**
+   * Adds one occurrence of the given element.
+   *
+   * @param element the element to add
+   * @return the number of occurrences of element once added.
+   */
+  int add(Object element) {
+    return counts.merge(new Element(element), 1, Integer::sum);
+  }
+
+  boolean contains(Object element) {
+    return counts.containsKey(new Element(element));
+  }
+
+  /**
+   * Removes one occurrence of the given element.
+   *
+   * @param element the element to remove
+   * @return true if an occurrence of element was found and removed, false otherwise.
+   */
+  boolean removeOne(Object element) {
+    Element key = new Element(element);
+    Integer count = counts.get(key);
+    if (count == null) return false;
+    if (count == 1) counts.remove(key);
+    else counts.put(key, count - 1);
+    return true;
+  }
+
+  boolean isEmpty() {
+    return counts.isEmpty();
+  }
+
+  static boolean isHashable(Object element) {
+    if (element == null) return true;
+    if (isArray(element)) {
+      for (int i = 0; i < Array.getLength(element); i++) {
+        if (!isHashable(Array.get(element, i))) return false;
+      }
+      return true;
+    }
+    return HASHABLE_TYPES.get(element.getClass());
+  }
+
+  /**
+   * Returns a hash code consistent with {@link Objects#areEqual(Object, Object)}, arrays are hashed by content
+   * (including primitive ones) as they are compared by content.
+   *
+   * @param element the element to hash
+   * @return a hash code consistent with {@link Objects#areEqual(Object, Object)}
+   */
+  static int hashCodeOf(Object element) {
+    if (element == null) return 0;
+    if (!isArray(element)) return element.hashCode();
+    int hashCode = 1;
+    for (int i = 0; i < Array.getLength(element); i++) {
+      hashCode = HASH_CODE_PRIME * hashCode + hashCodeOf(Array.get(element, i));
+    }
+    return hashCode;
+  }
+
+  // wraps an element to hash and compare it like StandardComparisonStrategy does
+  static final class Element {
+
+    final Object value;
+    private final int hashCode;
+
+    Element(Object value) {
+      this.value = value;
+      this.hashCode = hashCodeOf(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Element)) return false;
+      Element other = (Element) obj;
+      return hashCode == other.hashCode && Objects.areEqual(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
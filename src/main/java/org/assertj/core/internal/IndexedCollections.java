@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+
+import static org.assertj.core.util.Arrays.isArray;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Detects collections that can tell whether they contain a value without being iterated, and looks values up in them.
+ * <p>
+ * Only well known set implementations are considered (subclasses or wrappers could change what {@code contains}
+ * means) and only when their notion of equality is the one of the {@link ComparisonStrategy} used:
+ * <ul>
+ * <li>hash based sets with {@link StandardComparisonStrategy} for values having a {@code hashCode} consistent with their
+ * {@code equals}</li>
+ * <li>sorted sets using natural ordering with {@link StandardComparisonStrategy} for values whose {@code compareTo} is
+ * consistent with {@code equals} (it is not for {@link java.math.BigDecimal} for example)</li>
+ * <li>sorted sets with {@link ComparatorBasedComparisonStrategy} when both use the same comparator</li>
+ * </ul>
+ */
+final class IndexedCollections {
+
+  private static final Set<Class<?>> HASH_SETS = newLinkedHashSet(HashSet.class, LinkedHashSet.class,
+                                                                  ConcurrentHashMap.KeySetView.class);
+  // these sets don't accept null values
+  private static final Set<Class<?>> SORTED_SETS = newLinkedHashSet(TreeSet.class, ConcurrentSkipListSet.class);
+  private static final Set<Class<?>> COMPARE_TO_CONSISTENT_WITH_EQUALS = newLinkedHashSet(String.class, Boolean.class,
+                                                                                          Character.class, Byte.class,
+                                                                                          Short.class, Integer.class,
+                                                                                          Long.class, Float.class,
+                                                                                          Double.class, UUID.class);
+
+  private IndexedCollections() {}
+
+  /**
+   * Returns true if values can be looked up in the given iterable without iterating it, at least the ones supported by
+   * {@link #lookUp(ComparisonStrategy, Iterable, Object)}.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param iterable the iterable to look values in
+   * @return true if values can be looked up in the given iterable without iterating it.
+   */
+  static boolean isIndexed(ComparisonStrategy comparisonStrategy, Iterable<?> iterable) {
+    if (iterable == null) return false;
+    if (comparisonStrategy.isStandard()) {
+      return HASH_SETS.contains(iterable.getClass()) || isNaturallySorted(iterable);
+    }
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      return SORTED_SETS.contains(iterable.getClass()) && comparator.equals(((SortedSet<?>) iterable).comparator());
+    }
+    return false;
+  }
+
+  /**
+   * Looks the given value up in the given iterable without iterating it.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param iterable the iterable to look value in
+   * @param value the value to look for
+   * @return whether iterable contains value or null if it can't be told without iterating iterable.
+   */
+  static Boolean lookUp(ComparisonStrategy comparisonStrategy, Iterable<?> iterable, Object value) {
+    if (!isIndexed(comparisonStrategy, iterable) || !canLookUp(comparisonStrategy, iterable, value)) return null;
+    try {
+      return ((Set<?>) iterable).contains(value);
+    } catch (ClassCastException e) {
+      // value can't be compared to the sorted set elements
+      return null;
+    }
+  }
+
+  private static boolean canLookUp(ComparisonStrategy comparisonStrategy, Iterable<?> iterable, Object value) {
+    if (value == null) return iterable instanceof HashSet;
+    // arrays are compared by content but hashed and ordered by identity
+    if (isArray(value)) return false;
+    if (!comparisonStrategy.isStandard()) return true;
+    if (SORTED_SETS.contains(iterable.getClass())) return COMPARE_TO_CONSISTENT_WITH_EQUALS.contains(value.getClass());
+    return ElementMultiset.isHashable(value);
+  }
+
+  private static boolean isNaturallySorted(Iterable<?> iterable) {
+    return SORTED_SETS.contains(iterable.getClass()) && ((SortedSet<?>) iterable).comparator() == null;
+  }
+}
@@ -13,21 +13,34 @@
 package org.assertj.core.internal;
 
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.presentation.StandardRepresentation.getMaxElementsForPrinting;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.StandardRepresentation;
+
 // immutable
 class IterableDiff {
 
+  private static final int LINEAR_MATCHING_THRESHOLD = 8;
+
   private final ComparisonStrategy comparisonStrategy;
+  private final int maxElementsRetained;
 
   List<Object> unexpected;
   List<Object> missing;
 
   <T> IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
+    this(actual, expected, comparisonStrategy, Integer.MAX_VALUE);
+  }
+
+  <T> IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy,
+                   int maxElementsRetained) {
     this.comparisonStrategy = comparisonStrategy;
+    this.maxElementsRetained = maxElementsRetained;
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = subtract(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -38,6 +51,38 @@ class IterableDiff {
     return new IterableDiff(actual, expected, comparisonStrategy);
   }
 
+  /**
+   * Same as {@link #diff(Iterable, Iterable, ComparisonStrategy)} but only retains the first
+   * {@code maxElementsRetained} unexpected and missing elements, use it when the diff is only computed to be reported.
+   *
+   * @param <T> the type of elements
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param maxElementsRetained the maximum number of unexpected and of missing elements to retain
+   * @return the diff between actual and expected
+   */
+  static <T> IterableDiff diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy,
+                               int maxElementsRetained) {
+    return new IterableDiff(actual, expected, comparisonStrategy, maxElementsRetained);
+  }
+
+  /**
+   * Returns the maximum number of diff elements worth retaining to report them with the given assertion info
+   * representation: the {@link StandardRepresentation} does not print more than
+   * {@link StandardRepresentation#getMaxElementsForPrinting()} elements (+1 to know whether to print "...").
+   *
+   * @param info the assertion info whose representation is used to report the diff
+   * @return the maximum number of diff elements worth retaining
+   */
+  static int maxElementsToReport(AssertionInfo info) {
+    if (info.representation() == null || info.representation().getClass() != StandardRepresentation.class) {
+      // custom representations might print all elements
+      return Integer.MAX_VALUE;
+    }
+    return getMaxElementsForPrinting() + 1;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -49,25 +94,87 @@ class IterableDiff {
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
   private <T> List<Object> subtract(Iterable<T> first, Iterable<T> second) {
-    List<Object> missingInFirst = new ArrayList<>();
-    // use a copy to deal correctly with potential duplicates
-    List<T> copyOfSecond = newArrayList(second);
-    for (Object elementInFirst : first) {
-      if (iterableContains(copyOfSecond, elementInFirst)) {
-        // remove the element otherwise a duplicate would be found in the case if there is one in actual
-        iterablesRemoveFirst(copyOfSecond, elementInFirst);
-      } else {
-        missingInFirst.add(elementInFirst);
+    List<?> firstAsList = first instanceof ArrayList ? (List<?>) first : newArrayList(first);
+    return unmodifiableList(unmatched(firstAsList, second, comparisonStrategy, true, maxElementsRetained));
+  }
+
+  /**
+   * Returns the elements of {@code first} having no equal element in {@code second} according to the given comparison
+   * strategy, in encounter order.
+   * <p>
+   * When {@code countOccurrences} is true, each element of {@code second} can only match one element of {@code first}
+   * (the first ones in encounter order), i.e. the result is the multiset difference first - second, otherwise it is
+   * the set difference.
+   *
+   * @param first the elements to look for in second
+   * @param second the elements to look first elements in
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param countOccurrences whether elements are matched one to one or not
+   * @return the elements of first that were not matched by any element of second
+   */
+  static List<Object> unmatched(List<?> first, Iterable<?> second, ComparisonStrategy comparisonStrategy,
+                                boolean countOccurrences) {
+    return unmatched(first, second, comparisonStrategy, countOccurrences, Integer.MAX_VALUE);
+  }
+
+  private static List<Object> unmatched(List<?> first, Iterable<?> second, ComparisonStrategy comparisonStrategy,
+                                        boolean countOccurrences, int maxElementsRetained) {
+    boolean[] matched = matches(first, second, comparisonStrategy, countOccurrences);
+    List<Object> unmatched = new ArrayList<>();
+    for (int i = 0; i < matched.length && unmatched.size() < maxElementsRetained; i++) {
+      if (!matched[i]) unmatched.add(first.get(i));
+    }
+    return unmatched;
+  }
+
+  private static boolean[] matches(List<?> first, Iterable<?> second, ComparisonStrategy comparisonStrategy,
+                                   boolean countOccurrences) {
+    // second is already indexed, look first elements up in it
+    if (!countOccurrences && IndexedCollections.isIndexed(comparisonStrategy, second)) {
+      return linearMatches(first, second, comparisonStrategy, false);
+    }
+    // indexing elements does not pay off when one side only has a few elements
+    if (first.size() > LINEAR_MATCHING_THRESHOLD) {
+      List<?> secondAsList = second instanceof List ? (List<?>) second : newArrayList(second);
+      if (secondAsList.size() > LINEAR_MATCHING_THRESHOLD) {
+        boolean[] matched = indexedMatches(first, secondAsList, comparisonStrategy, countOccurrences);
+        if (matched != null) return matched;
       }
+      second = secondAsList;
     }
-    return unmodifiableList(missingInFirst);
+    return linearMatches(first, second, comparisonStrategy, countOccurrences);
   }
 
-  private boolean iterableContains(Iterable<?> actual, Object value) {
-    return comparisonStrategy.iterableContains(actual, value);
+  private static boolean[] indexedMatches(List<?> first, List<?> second, ComparisonStrategy comparisonStrategy,
+                                          boolean countOccurrences) {
+    if (ElementMultiset.canIndex(comparisonStrategy, first, second)) {
+      ElementMultiset secondElements = ElementMultiset.of(second);
+      boolean[] matched = new boolean[first.size()];
+      for (int i = 0; i < matched.length; i++) {
+        Object element = first.get(i);
+        matched[i] = countOccurrences ? secondElements.removeOne(element) : secondElements.contains(element);
+      }
+      return matched;
+    }
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      return ((ComparatorBasedComparisonStrategy) comparisonStrategy).sortAndMatch(first, second, countOccurrences);
+    }
+    return null;
   }
 
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
+  private static boolean[] linearMatches(List<?> first, Iterable<?> second, ComparisonStrategy comparisonStrategy,
+                                         boolean countOccurrences) {
+    // use a copy to deal correctly with potential duplicates
+    Iterable<?> copyOfSecond = countOccurrences ? newArrayList(second) : second;
+    boolean[] matched = new boolean[first.size()];
+    for (int i = 0; i < matched.length; i++) {
+      Object element = first.get(i);
+      if (comparisonStrategy.iterableContains(copyOfSecond, element)) {
+        matched[i] = true;
+        // remove the element otherwise a duplicate would be found in the case if there is one in actual
+        if (countOccurrences) comparisonStrategy.iterablesRemoveFirst(copyOfSecond, element);
+      }
+    }
+    return matched;
   }
 }
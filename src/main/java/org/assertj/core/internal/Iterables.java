@@ -12,10 +12,10 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Math.min;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
@@ -75,6 +75,9 @@ import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.maxElementsToReport;
+import static org.assertj.core.internal.IterableDiff.unmatched;
+import static org.assertj.core.internal.SequenceFinder.indexOfSequence;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
@@ -87,9 +90,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -112,6 +117,8 @@ public class Iterables {
 
   private static final Iterables INSTANCE = new Iterables();
   private final ComparisonStrategy comparisonStrategy;
+  // when set, element by element evaluations (allSatisfy, allMatch, noneMatch, filter) are done in parallel on this pool
+  private final ForkJoinPool parallelEvaluationPool;
   @VisibleForTesting
   Failures failures = Failures.instance();
   @VisibleForTesting
@@ -134,7 +141,18 @@ public class Iterables {
   }
 
   public Iterables(ComparisonStrategy comparisonStrategy) {
+    this(comparisonStrategy, null);
+  }
+
+  /**
+   * Creates an {@code Iterables} evaluating requirements and predicates on elements in parallel on the given pool.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements.
+   * @param parallelEvaluationPool the pool to evaluate elements on, {@code null} to evaluate them sequentially.
+   */
+  public Iterables(ComparisonStrategy comparisonStrategy, ForkJoinPool parallelEvaluationPool) {
     this.comparisonStrategy = comparisonStrategy;
+    this.parallelEvaluationPool = parallelEvaluationPool;
   }
 
   @VisibleForTesting
@@ -150,6 +168,27 @@ public class Iterables {
     return comparisonStrategy;
   }
 
+  public ForkJoinPool getParallelEvaluationPool() {
+    return parallelEvaluationPool;
+  }
+
+  /**
+   * Returns the elements of the given {@code Iterable} matching the given predicate, in their iteration order.
+   * <p>
+   * The predicate is evaluated in parallel if this {@code Iterables} has a parallel evaluation pool.
+   *
+   * @param <E> the type of elements
+   * @param actual the given {@code Iterable}.
+   * @param predicate the predicate elements must match to be kept.
+   * @return the elements matching the given predicate.
+   */
+  public <E> List<E> filter(Iterable<? extends E> actual, Predicate<? super E> predicate) {
+    if (parallelEvaluationPool != null) {
+      return ParallelEvaluation.filter(newArrayList(actual), predicate, parallelEvaluationPool);
+    }
+    return stream(actual).filter(predicate).collect(toList());
+  }
+
   /**
    * Asserts that the given <code>{@link Iterable}</code> is {@code null} or empty.
    *
@@ -332,13 +371,14 @@ public class Iterables {
    */
   public void assertContains(AssertionInfo info, Iterable<?> actual, Object[] values) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, values)) return;
+    // extracted tuples can be checked without building them
+    if (ColumnarTupleMatching.containsAll(comparisonStrategy, actual, values)) return;
     // check for elements in values that are missing in actual.
     assertIterableContainsGivenValues(actual, values, info);
   }
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
-                                         .collect(toCollection(LinkedHashSet::new));
+    Set<Object> notFound = new LinkedHashSet<>(unmatched(asList(values), actual, comparisonStrategy, false));
     if (notFound.isEmpty())
       return;
     throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -351,20 +391,6 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  /**
-   * Delegates to {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)}
-   */
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  /**
-   * Delegates to {@link ComparisonStrategy#iterableRemoves(Iterable, Object)}
-   */
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   /**
    * Asserts that the given {@code Iterable} contains only the given values and nothing else, in any order.
    *
@@ -379,20 +405,14 @@ public class Iterables {
    */
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] expectedValues) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, expectedValues)) return;
+    // extracted tuples can be checked without building them
+    if (ColumnarTupleMatching.containsOnly(comparisonStrategy, actual, expectedValues)) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actual);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actual, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
-      }
-    }
+    List<Object> actualAsList = newArrayList(actual);
+    // unexpected = actual - expectedValues
+    List<Object> unexpectedValues = unmatched(actualAsList, asList(expectedValues), comparisonStrategy, false);
+    // missing = expectedValues - actual
+    List<Object> missingValues = unmatched(asList(expectedValues), actualAsList, comparisonStrategy, false);
 
     if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actual, expectedValues,
@@ -463,12 +483,7 @@ public class Iterables {
    */
   public void assertContainsSequence(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, sequence)) return;
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int i = 0; i < actualAsList.size(); i++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) return;
-    }
+    if (indexOfSequence(actual, asList(sequence), comparisonStrategy) >= 0) return;
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
@@ -487,14 +502,8 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
-      }
-    }
+    int index = indexOfSequence(actual, asList(sequence), comparisonStrategy);
+    if (index >= 0) throw actualDoesContainSequence(info, actual, sequence, index);
   }
 
   /**
@@ -548,9 +557,9 @@ public class Iterables {
     int subsequenceIndex = 0;
     int subsequenceStartIndex = 0;
 
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      Object actualNext = actualAsList.get(index);
+    // single pass over actual, only the position in subsequence is tracked
+    int index = 0;
+    for (Object actualNext : actual) {
       Object subsequenceNext = subsequence[subsequenceIndex];
       if (areEqual(actualNext, subsequenceNext)) {
         if (subsequenceIndex == 0) subsequenceStartIndex = index;
@@ -559,6 +568,7 @@ public class Iterables {
       if (subsequenceIndex == subsequence.length) {
         throw actualContainsSubsequence(info, actual, subsequence, subsequenceStartIndex);
       }
+      index++;
     }
   }
 
@@ -576,28 +586,10 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<Object> extra = unmatched(newArrayList(actual), values, comparisonStrategy, false);
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   /**
    * Delegates to {@link ComparisonStrategy#areEqual(Object, Object)}
    */
@@ -760,8 +752,8 @@ public class Iterables {
 
   private boolean commonCheckThatIterableAssertionSucceeds(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     checkNotNullIterables(info, actual, sequence);
-    // if both actual and values are empty, then assertion passes.
-    if (!actual.iterator().hasNext() && sequence.length == 0) return true;
+    // if both actual and values are empty, then assertion passes (sequence is checked first to avoid iterating actual)
+    if (sequence.length == 0 && !actual.iterator().hasNext()) return true;
     failIfEmptySinceActualIsNotEmpty(sequence);
     return false;
   }
@@ -1089,37 +1081,59 @@ public class Iterables {
   public void assertContainsExactly(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
+    // extracted tuples can be checked without building them
+    if (ColumnarTupleMatching.containsExactly(comparisonStrategy, actual, values)) return;
 
     List<Object> actualAsList = newArrayList(actual);
-    IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
+    // elements are usually in the expected order, check it first as it does not need any diff
+    int indexOfFirstDifference = indexOfFirstDifference(actualAsList, values);
+    if (indexOfFirstDifference == actualAsList.size() && actualAsList.size() == values.length) return;
+
+    IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy, maxElementsToReport(info));
     if (!diff.differencesFound()) {
-      // actual and values have the same elements but are they in the same order ?
-      int i = 0;
-      for (Object elementFromActual : actual) {
-        if (!areEqual(elementFromActual, values[i])) {
-          throw failures.failure(info, elementsDifferAtIndex(elementFromActual, values[i], i, comparisonStrategy));
-        }
-        i++;
-      }
-      return;
+      // actual and values have the same elements but not in the same order
+      Object elementFromActual = actualAsList.get(indexOfFirstDifference);
+      throw failures.failure(info, elementsDifferAtIndex(elementFromActual, values[indexOfFirstDifference],
+                                                         indexOfFirstDifference, comparisonStrategy));
     }
     throw failures.failure(info,
                            shouldContainExactly(actual, asList(values), diff.missing, diff.unexpected,
                                                 comparisonStrategy));
   }
 
+  private int indexOfFirstDifference(List<?> actual, Object[] values) {
+    int size = min(actual.size(), values.length);
+    int i = 0;
+    while (i < size && areEqual(actual.get(i), values[i])) {
+      i++;
+    }
+    return i;
+  }
+
   public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = stream(actual).map(element -> failsRequirements(requirements, element))
-                                                                         .filter(Optional::isPresent)
-                                                                         .map(Optional::get)
-                                                                         .collect(toList());
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = unsatisfiedRequirements(actual, requirements);
     if (!unsatisfiedRequirements.isEmpty())
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
 
+  private <E> List<UnsatisfiedRequirement> unsatisfiedRequirements(Iterable<? extends E> actual,
+                                                                   Consumer<? super E> requirements) {
+    if (parallelEvaluationPool != null) {
+      List<Optional<UnsatisfiedRequirement>> evaluations = ParallelEvaluation.map(newArrayList(actual),
+                                                                                  element -> failsRequirements(requirements,
+                                                                                                               element),
+                                                                                  parallelEvaluationPool);
+      return evaluations.stream().filter(Optional::isPresent).map(Optional::get).collect(toList());
+    }
+    return stream(actual).map(element -> failsRequirements(requirements, element))
+                         .filter(Optional::isPresent)
+                         .map(Optional::get)
+                         .collect(toList());
+  }
+
   private static <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
     try {
       requirements.accept(element);
@@ -1176,7 +1190,7 @@ public class Iterables {
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    List<? extends E> nonMatches = stream(actual).filter(predicate.negate()).collect(toList());
+    List<? extends E> nonMatches = filter(actual, predicate.negate());
 
     if (!nonMatches.isEmpty()) {
       throw failures.failure(info, elementsShouldMatch(actual,
@@ -1221,12 +1235,12 @@ public class Iterables {
                                   PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .ifPresent(e -> {
-                    throw failures.failure(info, noElementsShouldMatch(actual, e,
-                                                                       predicateDescription));
-                  });
+    Stream<? extends E> matches = parallelEvaluationPool == null ? stream(actual).filter(predicate)
+        : filter(actual, predicate).stream();
+    matches.findFirst()
+           .ifPresent(e -> {
+             throw failures.failure(info, noElementsShouldMatch(actual, e, predicateDescription));
+           });
   }
 
   /**
@@ -1244,6 +1258,13 @@ public class Iterables {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, values))
       return;
 
+    if (IndexedCollections.isIndexed(comparisonStrategy, actual)) {
+      // look values up in actual instead of iterating it
+      for (Object value : values) {
+        if (iterableContains(actual, value)) return;
+      }
+      throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
+    }
     Iterable<Object> valuesToSearchFor = newArrayList(values);
     for (Object element : actual) {
       if (iterableContains(valuesToSearchFor, element)) return;
@@ -1254,15 +1275,10 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
+    List<Object> actualAsList = newArrayList(actual);
+    // each expected value matches one actual element, first ones first
+    List<Object> notExpected = unmatched(actualAsList, asList(values), comparisonStrategy, true);
+    List<Object> notFound = unmatched(asList(values), actualAsList, comparisonStrategy, true);
 
     if (notExpected.isEmpty() && notFound.isEmpty()) return;
 
@@ -15,6 +15,7 @@ package org.assertj.core.internal;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
@@ -49,7 +50,6 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -63,8 +63,8 @@ import java.util.Set;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.DeepDifference.Difference;
+import org.assertj.core.internal.DeepDifference.LimitedDifferences;
 import org.assertj.core.util.VisibleForTesting;
-import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 import org.assertj.core.util.introspection.PropertySupport;
@@ -80,12 +80,19 @@ import org.assertj.core.util.introspection.PropertySupport;
 public class Objects {
 
   private static final Objects INSTANCE = new Objects();
+  // declared fields are looked up for each compared object, getting them through reflection walks up the class
+  // hierarchy and copies the fields of each class.
+  private static final ClassValue<DeclaredFields> DECLARED_FIELDS = new ClassValue<DeclaredFields>() {
+    @Override
+    protected DeclaredFields computeValue(Class<?> type) {
+      return new DeclaredFields(type);
+    }
+  };
   @VisibleForTesting
   final PropertySupport propertySupport = PropertySupport.instance();
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
-  private final FieldSupport fieldSupport = FieldSupport.comparison();
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -529,9 +536,7 @@ public class Objects {
     List<Object> rejectedValues = new LinkedList<>();
     List<Object> expectedValues = new LinkedList<>();
     List<String> nullFields = new LinkedList<>();
-    for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
-      if (!canReadFieldValue(field, actual)) continue;
-      String fieldName = field.getName();
+    for (String fieldName : ComparedFields.of(actual)) {
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
       if (otherFieldValue == null) {
         nullFields.add(fieldName);
@@ -635,17 +640,10 @@ public class Objects {
                                                               Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                               TypeComparators comparatorByType,
                                                               String[] givenIgnoredFields) {
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
     List<String> fieldsNames = new LinkedList<>();
     List<Object> expectedValues = new LinkedList<>();
     List<Object> rejectedValues = new LinkedList<>();
-    Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
-    for (Field field : declaredFieldsIncludingInherited) {
-      // ignore private field if user has decided not to use them in comparison
-      String fieldName = field.getName();
-      if (ignoredFields.contains(fieldName) || !canReadFieldValue(field, actual)) {
-        continue;
-      }
+    for (String fieldName : ComparedFields.of(actual, givenIgnoredFields)) {
       Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
 
@@ -676,10 +674,6 @@ public class Objects {
     return org.assertj.core.util.Objects.areEqual(actualFieldValue, otherFieldValue);
   }
 
-  private <A> boolean canReadFieldValue(Field field, A actual) {
-    return fieldSupport.isAllowedToRead(field) || propertySupport.publicGetterExistsFor(field.getName(), actual);
-  }
-
   /**
    * Assert that the given object has no null fields except the given ones.
    *
@@ -693,13 +687,8 @@ public class Objects {
   public <A> void assertHasNoNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                           String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
     List<String> nullFieldNames = new LinkedList<>();
-    Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
-    for (Field field : declaredFieldsIncludingInherited) {
-      // ignore private field if user has decided not to use them in comparison
-      String fieldName = field.getName();
-      if (ignoredFields.contains(fieldName) || !canReadFieldValue(field, actual)) continue;
+    for (String fieldName : ComparedFields.of(actual, propertiesOrFieldsToIgnore)) {
       Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
       if (actualFieldValue == null) nullFieldNames.add(fieldName);
     }
@@ -721,13 +710,8 @@ public class Objects {
   public <A> void assertHasAllNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                            String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFields = getDeclaredFieldsIncludingInherited(actual.getClass());
-    Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
-    List<String> nonNullFieldNames = declaredFields.stream()
-                                                   .filter(field -> !ignoredFields.contains(field.getName()))
-                                                   .filter(field -> canReadFieldValue(field, actual))
-                                                   .filter(field -> getPropertyOrFieldValue(actual, field.getName()) != null)
-                                                   .map(Field::getName)
+    List<String> nonNullFieldNames = ComparedFields.of(actual, propertiesOrFieldsToIgnore).stream()
+                                                   .filter(fieldName -> getPropertyOrFieldValue(actual, fieldName) != null)
                                                    .collect(toList());
     if (!nonNullFieldNames.isEmpty()) {
       throw failures.failure(info, shouldHaveAllNullFields(actual, nonNullFieldNames, list(propertiesOrFieldsToIgnore)));
@@ -757,6 +741,33 @@ public class Objects {
     }
   }
 
+  /**
+   * Assert that the given object is "deeply" equals to other by comparing all fields recursively within the given
+   * limits.
+   *
+   * @param <A> the actual type
+   * @param info contains information about the assertion.
+   * @param actual the given object.
+   * @param other the object to compare {@code actual} to.
+   * @param comparatorByPropertyOrField comparators use for specific fields
+   * @param comparatorByType comparators use for specific types
+   * @param limits the limits of the comparison
+   * @throws AssertionError if actual is {@code null}.
+   * @throws AssertionError if differences between the actual and the given object are found within the limits.
+   */
+  public <A> void assertIsEqualToComparingFieldByFieldRecursively(AssertionInfo info, Object actual, Object other,
+                                                                  Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                                                  TypeComparators comparatorByType,
+                                                                  RecursiveComparisonLimits limits) {
+    assertNotNull(info, actual);
+    LimitedDifferences differences = determineDifferences(actual, other, comparatorByPropertyOrField, comparatorByType,
+                                                          limits);
+    if (!differences.isEmpty()) {
+      throw failures.failure(info, shouldBeEqualByComparingFieldByFieldRecursive(actual, other, differences,
+                                                                                 info.representation()));
+    }
+  }
+
   /**
    * Get property value first and in case of error try field value.
    * <p>
@@ -780,7 +791,34 @@ public class Objects {
    * @return the declared fields of given class and its superclasses.
    */
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
+    return new LinkedHashSet<>(getSharedDeclaredFieldsIncludingInherited(clazz));
+  }
+
+  /**
+   * Returns the fields returned by {@link #getDeclaredFieldsIncludingInherited(Class)}, the fields are looked up once
+   * per class and the returned set is shared and can't be modified.
+   *
+   * @param clazz the class we want the declared fields.
+   * @return the declared fields of given class and its superclasses.
+   */
+  static Set<Field> getSharedDeclaredFieldsIncludingInherited(Class<?> clazz) {
     checkNotNull(clazz, "expecting Class parameter not to be null");
+    return DECLARED_FIELDS.get(clazz).fields;
+  }
+
+  /**
+   * Returns the names of the fields returned by {@link #getDeclaredFieldsIncludingInherited(Class)}, the returned set
+   * is shared and can't be modified.
+   *
+   * @param clazz the class we want the declared fields names.
+   * @return the names of the declared fields of given class and its superclasses.
+   */
+  static Set<String> getDeclaredFieldsNamesIncludingInherited(Class<?> clazz) {
+    checkNotNull(clazz, "expecting Class parameter not to be null");
+    return DECLARED_FIELDS.get(clazz).names;
+  }
+
+  private static Set<Field> lookUpDeclaredFieldsIncludingInherited(Class<?> clazz) {
     Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
     // get fields declared in superclass
     Class<?> superclazz = clazz.getSuperclass();
@@ -808,18 +846,47 @@ public class Objects {
                                             .collect(toCollection(LinkedHashSet::new));
   }
 
+  private static final class DeclaredFields {
+
+    private final Set<Field> fields;
+    private final Set<String> names;
+
+    private DeclaredFields(Class<?> clazz) {
+      Set<Field> declaredFields = lookUpDeclaredFieldsIncludingInherited(clazz);
+      Set<String> declaredFieldsNames = new LinkedHashSet<>();
+      for (Field field : declaredFields) {
+        declaredFieldsNames.add(field.getName());
+      }
+      fields = unmodifiableSet(declaredFields);
+      names = unmodifiableSet(declaredFieldsNames);
+    }
+  }
+
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
                                                Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                TypeComparators comparatorByType, String... fields) {
-    return isEqualToIgnoringGivenFields(actual, other, comparatorByPropertyOrField, comparatorByType,
-                                        fields).isFieldsNamesEmpty();
+    // only whether objects are equal matters, stop at the first field with different values
+    for (String fieldName : ComparedFields.of(actual, fields)) {
+      if (!propertyOrFieldValuesAreEqual(getPropertyOrFieldValue(actual, fieldName),
+                                         getPropertyOrFieldValue(other, fieldName), fieldName,
+                                         comparatorByPropertyOrField, comparatorByType)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public boolean areEqualToComparingOnlyGivenFields(Object actual, Object other,
                                                     Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                     TypeComparators comparatorByType, String... fields) {
-    return isEqualToComparingOnlyGivenFields(actual, other, comparatorByPropertyOrField, comparatorByType,
-                                             fields).isFieldsNamesEmpty();
+    for (String fieldName : fields) {
+      if (!propertyOrFieldValuesAreEqual(getPropertyOrFieldValue(actual, fieldName),
+                                         getPropertyOrFieldValue(other, fieldName), fieldName,
+                                         comparatorByPropertyOrField, comparatorByType)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public <A> void assertHasFieldOrProperty(AssertionInfo info, A actual, String name) {
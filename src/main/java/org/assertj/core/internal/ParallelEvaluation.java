@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a function on elements in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * Elements are split in chunks evaluated by different tasks, each task stores its results at the index of the elements
+ * it has evaluated so that results are always in the elements order whatever the order in which tasks were executed,
+ * this keeps error messages deterministic.
+ */
+final class ParallelEvaluation {
+
+  // split elements in more chunks than workers to balance evaluation costs that differ from one element to another
+  private static final int CHUNKS_PER_WORKER = 4;
+
+  private ParallelEvaluation() {}
+
+  /**
+   * Applies the given function to each element on the given pool.
+   *
+   * @param <E> the type of elements
+   * @param <R> the type of results
+   * @param elements the elements to evaluate
+   * @param function the function to apply to each element
+   * @param pool the pool to evaluate elements on
+   * @return the results in the elements order.
+   */
+  @SuppressWarnings("unchecked")
+  static <E, R> List<R> map(List<? extends E> elements, Function<? super E, ? extends R> function, ForkJoinPool pool) {
+    Object[] results = new Object[elements.size()];
+    int chunkSize = Math.max(1, elements.size() / (pool.getParallelism() * CHUNKS_PER_WORKER));
+    pool.invoke(new Evaluation<>(elements, function, results, 0, elements.size(), chunkSize));
+    return (List<R>) asList(results);
+  }
+
+  /**
+   * Returns the elements matching the given predicate, the predicate being evaluated on the given pool.
+   *
+   * @param <E> the type of elements
+   * @param elements the elements to filter
+   * @param predicate the predicate to evaluate on each element
+   * @param pool the pool to evaluate elements on
+   * @return the elements matching the predicate in their original order.
+   */
+  static <E> List<E> filter(List<? extends E> elements, Predicate<? super E> predicate, ForkJoinPool pool) {
+    List<Boolean> matches = map(elements, predicate::test, pool);
+    List<E> filtered = new ArrayList<>();
+    for (int i = 0; i < matches.size(); i++) {
+      if (matches.get(i)) filtered.add(elements.get(i));
+    }
+    return filtered;
+  }
+
+  private static class Evaluation<E, R> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends E> elements;
+    private final Function<? super E, ? extends R> function;
+    private final Object[] results;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    Evaluation(List<? extends E> elements, Function<? super E, ? extends R> function, Object[] results, int from, int to,
+               int chunkSize) {
+      this.elements = elements;
+      this.function = function;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        for (int i = from; i < to; i++) {
+          results[i] = function.apply(elements.get(i));
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new Evaluation<>(elements, function, results, from, middle, chunkSize),
+                new Evaluation<>(elements, function, results, middle, to, chunkSize));
+    }
+  }
+}
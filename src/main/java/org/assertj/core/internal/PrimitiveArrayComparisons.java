@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+
+/**
+ * Comparisons of primitive arrays elements honoring {@link StandardComparisonStrategy} equality without boxing them.
+ * <p>
+ * Elements are mapped to {@code long} keys that are equal if and only if the boxed elements are equal (floating point
+ * numbers are mapped to their bits as {@link Double#equals(Object)} and {@link Float#equals(Object)} do), keys are then
+ * sorted and binary searched.
+ * <p>
+ * These comparisons only tell whether an assertion succeeds, failures are reported by the generic {@link Arrays} code
+ * so that error messages are the same.
+ */
+final class PrimitiveArrayComparisons {
+
+  private static final int BINARY_SEARCH_THRESHOLD = 1024;
+
+  private PrimitiveArrayComparisons() {}
+
+  /**
+   * Returns true if the given arrays elements can be compared with this class, i.e. if the comparison strategy is the
+   * standard one and the given arrays are non boolean primitive arrays of the same type.
+   *
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @param actual the actual array
+   * @param values the array of values
+   * @return true if the given arrays elements can be compared with this class
+   */
+  static boolean canCompare(ComparisonStrategy comparisonStrategy, Object actual, Object values) {
+    return canCompare(comparisonStrategy, actual) && values != null && values.getClass() == actual.getClass();
+  }
+
+  static boolean canCompare(ComparisonStrategy comparisonStrategy, Object array) {
+    return comparisonStrategy.isStandard() && isSupported(array);
+  }
+
+  private static boolean isSupported(Object array) {
+    return array instanceof int[] || array instanceof long[] || array instanceof short[] || array instanceof byte[]
+           || array instanceof char[] || array instanceof float[] || array instanceof double[];
+  }
+
+  static boolean containsAll(Object actual, Object values) {
+    long[] valueKeys = distinctSortedKeysOf(values);
+    // binary searching many values for each actual element is slower than sorting actual and merging both
+    if (valueKeys.length > BINARY_SEARCH_THRESHOLD) return containsAllSorted(sortedKeysOf(actual), valueKeys);
+    boolean[] found = new boolean[valueKeys.length];
+    int foundCount = 0;
+    for (long key : keysOf(actual)) {
+      int index = binarySearch(valueKeys, key);
+      if (index >= 0 && !found[index]) {
+        found[index] = true;
+        if (++foundCount == valueKeys.length) return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean containsAllSorted(long[] sortedActualKeys, long[] distinctSortedValueKeys) {
+    int i = 0;
+    for (long valueKey : distinctSortedValueKeys) {
+      while (i < sortedActualKeys.length && sortedActualKeys[i] < valueKey) {
+        i++;
+      }
+      if (i == sortedActualKeys.length || sortedActualKeys[i] != valueKey) return false;
+    }
+    return true;
+  }
+
+  static boolean containsAny(Object actual, Object values) {
+    long[] valueKeys = sortedKeysOf(values);
+    for (long key : keysOf(actual)) {
+      if (binarySearch(valueKeys, key) >= 0) return true;
+    }
+    return false;
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    // primitive arrays are compared with the java.util.Arrays.equals method of their type
+    return java.util.Objects.deepEquals(actual, values);
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    return java.util.Arrays.equals(distinctSortedKeysOf(actual), distinctSortedKeysOf(values));
+  }
+
+  static boolean containsExactlyInAnyOrder(Object actual, Object values) {
+    return java.util.Arrays.equals(sortedKeysOf(actual), sortedKeysOf(values));
+  }
+
+  static boolean containsOnlyOnce(Object actual, Object values) {
+    long[] actualKeys = sortedKeysOf(actual);
+    for (long key : keysOf(values)) {
+      int index = binarySearch(actualKeys, key);
+      if (index < 0) return false;
+      // binary search returns any of the equal keys, look for another one next to it
+      boolean hasNeighbourEqualKey = (index > 0 && actualKeys[index - 1] == key)
+                                     || (index < actualKeys.length - 1 && actualKeys[index + 1] == key);
+      if (hasNeighbourEqualKey) return false;
+    }
+    return true;
+  }
+
+  static boolean hasDuplicates(Object array) {
+    long[] keys = sortedKeysOf(array);
+    for (int i = 1; i < keys.length; i++) {
+      if (keys[i] == keys[i - 1]) return true;
+    }
+    return false;
+  }
+
+  private static long[] sortedKeysOf(Object array) {
+    long[] keys = keysOf(array);
+    sort(keys);
+    return keys;
+  }
+
+  private static long[] distinctSortedKeysOf(Object array) {
+    long[] keys = sortedKeysOf(array);
+    if (keys.length == 0) return keys;
+    int distinctCount = 1;
+    for (int i = 1; i < keys.length; i++) {
+      if (keys[i] != keys[distinctCount - 1]) keys[distinctCount++] = keys[i];
+    }
+    return copyOf(keys, distinctCount);
+  }
+
+  static long[] keysOf(Object array) {
+    if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      long[] keys = new long[ints.length];
+      for (int i = 0; i < ints.length; i++) {
+        keys[i] = ints[i];
+      }
+      return keys;
+    }
+    if (array instanceof long[]) return ((long[]) array).clone();
+    if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      long[] keys = new long[shorts.length];
+      for (int i = 0; i < shorts.length; i++) {
+        keys[i] = shorts[i];
+      }
+      return keys;
+    }
+    if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      long[] keys = new long[bytes.length];
+      for (int i = 0; i < bytes.length; i++) {
+        keys[i] = bytes[i];
+      }
+      return keys;
+    }
+    if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      long[] keys = new long[chars.length];
+      for (int i = 0; i < chars.length; i++) {
+        keys[i] = chars[i];
+      }
+      return keys;
+    }
+    if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      long[] keys = new long[floats.length];
+      for (int i = 0; i < floats.length; i++) {
+        keys[i] = Float.floatToIntBits(floats[i]);
+      }
+      return keys;
+    }
+    if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      long[] keys = new long[doubles.length];
+      for (int i = 0; i < doubles.length; i++) {
+        keys[i] = Double.doubleToLongBits(doubles[i]);
+      }
+      return keys;
+    }
+    throw new IllegalArgumentException("Unsupported array type: " + array.getClass().getName());
+  }
+}
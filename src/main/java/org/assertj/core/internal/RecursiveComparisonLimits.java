@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * Limits of a recursive field by field comparison, used to compare big object graphs that may have a lot of
+ * differences:
+ * <ul>
+ * <li>max depth: values nested in more fields than that are not compared</li>
+ * <li>max compared values: the comparison stops once that many values have been compared</li>
+ * <li>max reported differences: differences found after that many are only counted</li>
+ * </ul>
+ * Instances are immutable, there are no limits by default.
+ */
+public final class RecursiveComparisonLimits {
+
+  private static final RecursiveComparisonLimits NO_LIMITS = new RecursiveComparisonLimits(Integer.MAX_VALUE,
+                                                                                          Integer.MAX_VALUE,
+                                                                                          Integer.MAX_VALUE);
+
+  private final int maxDepth;
+  private final int maxComparedValues;
+  private final int maxReportedDifferences;
+
+  private RecursiveComparisonLimits(int maxDepth, int maxComparedValues, int maxReportedDifferences) {
+    this.maxDepth = maxDepth;
+    this.maxComparedValues = maxComparedValues;
+    this.maxReportedDifferences = maxReportedDifferences;
+  }
+
+  public static RecursiveComparisonLimits noLimits() {
+    return NO_LIMITS;
+  }
+
+  /**
+   * Returns limits equal to these ones except for the max depth, the fields of the compared objects are at depth 1.
+   *
+   * @param maxDepth the max number of nested fields of the compared values
+   * @return the new limits.
+   * @throws IllegalArgumentException if the given max depth is not positive.
+   */
+  public RecursiveComparisonLimits withMaxDepth(int maxDepth) {
+    checkArgument(maxDepth > 0, "The max depth must be positive but was %s", maxDepth);
+    return new RecursiveComparisonLimits(maxDepth, maxComparedValues, maxReportedDifferences);
+  }
+
+  /**
+   * Returns limits equal to these ones except for the max number of compared values.
+   *
+   * @param maxComparedValues the max number of values to compare
+   * @return the new limits.
+   * @throws IllegalArgumentException if the given max number of compared values is not positive.
+   */
+  public RecursiveComparisonLimits withMaxComparedValues(int maxComparedValues) {
+    checkArgument(maxComparedValues > 0, "The max number of compared values must be positive but was %s",
+                  maxComparedValues);
+    return new RecursiveComparisonLimits(maxDepth, maxComparedValues, maxReportedDifferences);
+  }
+
+  /**
+   * Returns limits equal to these ones except for the max number of reported differences.
+   *
+   * @param maxReportedDifferences the max number of differences to report
+   * @return the new limits.
+   * @throws IllegalArgumentException if the given max number of reported differences is not positive.
+   */
+  public RecursiveComparisonLimits withMaxReportedDifferences(int maxReportedDifferences) {
+    checkArgument(maxReportedDifferences > 0, "The max number of reported differences must be positive but was %s",
+                  maxReportedDifferences);
+    return new RecursiveComparisonLimits(maxDepth, maxComparedValues, maxReportedDifferences);
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  public int getMaxComparedValues() {
+    return maxComparedValues;
+  }
+
+  public int getMaxReportedDifferences() {
+    return maxReportedDifferences;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof RecursiveComparisonLimits)) return false;
+    RecursiveComparisonLimits other = (RecursiveComparisonLimits) obj;
+    return maxDepth == other.maxDepth
+           && maxComparedValues == other.maxComparedValues
+           && maxReportedDifferences == other.maxReportedDifferences;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = maxDepth;
+    result = 31 * result + maxComparedValues;
+    return 31 * result + maxReportedDifferences;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RecursiveComparisonLimits [maxDepth=%s, maxComparedValues=%s, maxReportedDifferences=%s]",
+                         maxDepth, maxComparedValues, maxReportedDifferences);
+  }
+}
@@ -12,7 +12,7 @@
  */
 package org.assertj.core.internal;
 
-import static org.assertj.core.internal.DeepDifference.determineDifferences;
+import static org.assertj.core.internal.DeepDifference.deepEquals;
 
 import java.util.Comparator;
 import java.util.Map;
@@ -32,7 +32,7 @@ public class RecursiveFieldByFieldComparator extends FieldByFieldComparator {
   @Override
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return determineDifferences(actual, other, comparatorsByPropertyOrField, comparatorsByType).isEmpty();
+      return deepEquals(actual, other, comparatorsByPropertyOrField, comparatorsByType);
     } catch (IntrospectionError e) {
       return false;
     }
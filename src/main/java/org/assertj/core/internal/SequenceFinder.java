@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
+/**
+ * Finds the first occurrence of a sequence of elements in an {@link Iterable} according to a {@link ComparisonStrategy}.
+ * <p>
+ * With the standard comparison strategy, equality is an equivalence relation (as {@link Object#equals(Object)} contract
+ * requires) and the search uses the Knuth-Morris-Pratt algorithm: actual elements are visited once and the number of
+ * comparisons is at most twice the number of elements, the search is thus linear in the size of actual plus the size of
+ * the sequence instead of being proportional to their product.
+ * <p>
+ * Comparators are not guaranteed to be transitive, those with a precision or a tolerance (like
+ * {@link org.assertj.core.util.DoubleComparator} or the ones comparing fields) would make the algorithm skip some
+ * matches, the sequence is thus compared at each index of actual when elements are compared with a comparator.
+ */
+final class SequenceFinder {
+
+  private SequenceFinder() {}
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in actual, -1 if there is none.
+   *
+   * @param actual the elements to look the sequence in
+   * @param sequence the sequence to look for
+   * @param comparisonStrategy the comparison strategy used to compare elements
+   * @return the index of the first occurrence of the given sequence in actual, -1 if there is none.
+   */
+  static int indexOfSequence(Iterable<?> actual, List<?> sequence, ComparisonStrategy comparisonStrategy) {
+    if (sequence.isEmpty()) return 0;
+    if (!hasTransitiveEquality(comparisonStrategy)) return indexOfSequenceComparingAtEachIndex(actual, sequence,
+                                                                                               comparisonStrategy);
+    int[] prefixes = prefixFunction(sequence, comparisonStrategy);
+    int matched = 0;
+    int index = 0;
+    for (Object element : actual) {
+      boolean elementMatches;
+      // on mismatch, fall back on the longest sequence prefix that is also a suffix of what has been matched so far
+      while (!(elementMatches = comparisonStrategy.areEqual(element, sequence.get(matched))) && matched > 0) {
+        matched = prefixes[matched - 1];
+      }
+      if (elementMatches) matched++;
+      if (matched == sequence.size()) return index - matched + 1;
+      index++;
+    }
+    return -1;
+  }
+
+  /**
+   * Computes for each prefix of the given sequence the length of its longest proper prefix which is also a suffix.
+   */
+  static int[] prefixFunction(List<?> sequence, ComparisonStrategy comparisonStrategy) {
+    int[] prefixes = new int[sequence.size()];
+    for (int i = 1; i < sequence.size(); i++) {
+      int length = prefixes[i - 1];
+      while (length > 0 && !comparisonStrategy.areEqual(sequence.get(i), sequence.get(length))) {
+        length = prefixes[length - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence.get(i), sequence.get(length))) length++;
+      prefixes[i] = length;
+    }
+    return prefixes;
+  }
+
+  static boolean hasTransitiveEquality(ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy.isStandard();
+  }
+
+  private static int indexOfSequenceComparingAtEachIndex(Iterable<?> actual, List<?> sequence,
+                                                         ComparisonStrategy comparisonStrategy) {
+    List<?> actualAsList = newArrayList(actual);
+    int lastIndexWhereSequenceCanBeFound = actualAsList.size() - sequence.size();
+    for (int index = 0; index <= lastIndexWhereSequenceCanBeFound; index++) {
+      if (containsSequenceAtGivenIndex(actualAsList, sequence, index, comparisonStrategy)) return index;
+    }
+    return -1;
+  }
+
+  private static boolean containsSequenceAtGivenIndex(List<?> actual, List<?> sequence, int startingIndex,
+                                                      ComparisonStrategy comparisonStrategy) {
+    for (int i = 0; i < sequence.size(); i++) {
+      if (!comparisonStrategy.areEqual(actual.get(startingIndex + i), sequence.get(i))) return false;
+    }
+    return true;
+  }
+}
@@ -12,9 +12,13 @@
  */
 package org.assertj.core.internal;
 
+import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -91,6 +95,9 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     if (iterable == null) {
       return false;
     }
+    // hash based or sorted sets can tell whether they contain value without being iterated
+    Boolean found = IndexedCollections.lookUp(this, iterable, value);
+    if (found != null) return found;
     return Streams.stream(iterable).anyMatch(object -> areEqual(object, value));
   }
 
@@ -128,16 +135,42 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   /**
    * Returns any duplicate elements from the given collection according to {@link Objects#areEqual(Object, Object)}
-   * comparison strategy.
+   * comparison strategy, in the order their second occurrence is found.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
    *         empty {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
-    return super.duplicatesFrom(iterable);
+    if (isNullOrEmpty(iterable)) return super.duplicatesFrom(iterable);
+    // elements with a hashCode inconsistent with equals can't be put in hash buckets, they are compared pairwise
+    if (!ElementMultiset.canIndex(this, iterable)) return duplicatesComparingPairwise(iterable);
+    ElementMultiset occurrences = new ElementMultiset();
+    Set<Object> duplicates = new LinkedHashSet<>();
+    for (Object element : iterable) {
+      // report duplicates in the order they are found, i.e. when their second occurrence is met
+      if (occurrences.add(element) == 2) duplicates.add(element);
+    }
+    return duplicates;
+  }
+
+  private Iterable<?> duplicatesComparingPairwise(Iterable<?> iterable) {
+    List<Object> distinctElements = new ArrayList<>();
+    List<Object> duplicates = new ArrayList<>();
+    for (Object element : iterable) {
+      if (!containsComparingPairwise(distinctElements, element)) distinctElements.add(element);
+      else if (!containsComparingPairwise(duplicates, element)) duplicates.add(element);
+    }
+    // no two duplicates are equal, they can't be merged by a Set even if their hashCode is inconsistent with equals
+    return new LinkedHashSet<>(duplicates);
+  }
+
+  private boolean containsComparingPairwise(List<Object> elements, Object value) {
+    for (Object element : elements) {
+      if (areEqual(value, element)) return true;
+    }
+    return false;
   }
 
   @Override
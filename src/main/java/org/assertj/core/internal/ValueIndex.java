@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.reverse;
+import static org.assertj.core.util.Objects.areEqual;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.assertj.core.internal.ElementMultiset.Element;
+import org.assertj.core.util.Objects;
+
+/**
+ * Index of elements by a value computed from each of them (typically one of their property or field), values being
+ * compared with {@link Objects#areEqual(Object, Object)} like {@link StandardComparisonStrategy} does, the indexed
+ * value being the receiver of {@code equals} (which matters for asymmetric {@code equals} like {@code Timestamp}'s).
+ * <p>
+ * Values are computed once for all elements when the index is built, elements with a given value are then looked up by
+ * hash code; values whose {@code hashCode} is not consistent with {@code equals} are compared one by one.
+ *
+ * @param <E> the type of indexed elements
+ */
+public final class ValueIndex<E> {
+
+  private static final int NO_INDEX = -1;
+
+  private final List<? extends E> elements;
+  private final Object[] values;
+  // index of the first element having a given value, the next elements with that value are chained in sameValueNext
+  private final Map<Element, Integer> firstIndexByValue = new HashMap<>();
+  private final int[] sameValueNext;
+  private final List<Integer> unhashableValueIndexes = new ArrayList<>();
+
+  private ValueIndex(List<? extends E> elements, Function<? super E, ?> valueExtractor) {
+    this.elements = elements;
+    int size = elements.size();
+    values = new Object[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = valueExtractor.apply(elements.get(i));
+    }
+    sameValueNext = new int[size];
+    // index in reverse order to chain elements having the same value in the elements order
+    for (int i = size - 1; i >= 0; i--) {
+      if (ElementMultiset.isHashable(values[i])) {
+        Integer next = firstIndexByValue.put(new Element(values[i]), i);
+        sameValueNext[i] = next == null ? NO_INDEX : next;
+      } else {
+        sameValueNext[i] = NO_INDEX;
+        unhashableValueIndexes.add(i);
+      }
+    }
+    reverse(unhashableValueIndexes);
+  }
+
+  /**
+   * Indexes the given elements by the value computed by the given extractor.
+   *
+   * @param <E> the type of elements to index
+   * @param elements the elements to index
+   * @param valueExtractor computes the value to index an element by
+   * @return the index of elements by value.
+   */
+  public static <E> ValueIndex<E> index(List<? extends E> elements, Function<? super E, ?> valueExtractor) {
+    return new ValueIndex<>(elements, valueExtractor);
+  }
+
+  /**
+   * Returns true if at least one of the indexed elements has the given value.
+   *
+   * @param value the value to look up
+   * @return true if at least one of the indexed elements has the given value, false otherwise.
+   */
+  public boolean containsValue(Object value) {
+    if (ElementMultiset.isHashable(value)) {
+      if (firstIndexByValue.containsKey(new Probe(value))) return true;
+      for (int i : unhashableValueIndexes) {
+        if (areEqual(values[i], value)) return true;
+      }
+      return false;
+    }
+    for (Object indexedValue : values) {
+      if (areEqual(indexedValue, value)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the elements whose value is equal to one of the given values, in the indexed elements order.
+   *
+   * @param values the values to look up
+   * @return the elements whose value is equal to one of the given values.
+   */
+  public List<E> elementsWithValueIn(Object... values) {
+    return elementsSelected(select(values), true);
+  }
+
+  /**
+   * Returns the elements whose value is not equal to any of the given values, in the indexed elements order.
+   *
+   * @param values the values to look up
+   * @return the elements whose value is not equal to any of the given values.
+   */
+  public List<E> elementsWithValueNotIn(Object... values) {
+    return elementsSelected(select(values), false);
+  }
+
+  private boolean[] select(Object[] valuesToSelect) {
+    boolean[] selected = new boolean[elements.size()];
+    for (Object value : valuesToSelect) {
+      if (ElementMultiset.isHashable(value)) {
+        Integer first = firstIndexByValue.get(new Probe(value));
+        for (int i = first == null ? NO_INDEX : first; i != NO_INDEX; i = sameValueNext[i]) {
+          selected[i] = true;
+        }
+        for (int i : unhashableValueIndexes) {
+          if (areEqual(values[i], value)) selected[i] = true;
+        }
+      } else {
+        for (int i = 0; i < values.length; i++) {
+          if (areEqual(values[i], value)) selected[i] = true;
+        }
+      }
+    }
+    return selected;
+  }
+
+  private List<E> elementsSelected(boolean[] selected, boolean expected) {
+    List<E> elementsSelected = new ArrayList<>();
+    for (int i = 0; i < selected.length; i++) {
+      if (selected[i] == expected) elementsSelected.add(elements.get(i));
+    }
+    return elementsSelected;
+  }
+
+  // looks a value up in the index, HashMap calling the looked up key equals with the indexed key as argument, this makes
+  // the indexed value the receiver of equals
+  private static final class Probe {
+
+    private final Object value;
+    private final int hashCode;
+
+    private Probe(Object value) {
+      this.value = value;
+      this.hashCode = ElementMultiset.hashCodeOf(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Element)) return false;
+      Element indexed = (Element) obj;
+      return hashCode == indexed.hashCode() && areEqual(indexed.value, value);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
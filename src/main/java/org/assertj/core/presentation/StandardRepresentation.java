@@ -123,6 +123,17 @@ public class StandardRepresentation implements Representation {
     maxElementsForPrinting = value;
   }
 
+  /**
+   * Returns the maximum number of elements of an iterable or an array displayed in error messages, elements past it
+   * are replaced by "...".
+   *
+   * @return the maximum number of elements displayed in error messages.
+   * @see #setMaxElementsForPrinting(int)
+   */
+  public static int getMaxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    * 
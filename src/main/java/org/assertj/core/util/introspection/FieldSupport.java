@@ -244,6 +244,23 @@ public enum FieldSupport {
     }
   }
 
+  /**
+   * Returns true if the given object has a field with the given name that can be read according to the private fields
+   * setting, it is a cheap check compared to reading the field and getting an error when it can't be read.
+   *
+   * @param fieldName the name of the field, nested fields are not supported.
+   * @param target the object to read the field from.
+   * @return true if the field exists and can be read.
+   */
+  boolean canReadField(String fieldName, Object target) {
+    try {
+      Field field = FieldUtils.lookUpField(target.getClass(), fieldName);
+      return field != null && isAllowedToRead(field);
+    } catch (IllegalArgumentException ambiguousField) {
+      return false;
+    }
+  }
+
   public boolean isAllowedToRead(Field field) {
     if (allowUsingPrivateFields) return true;
     // only read public field
@@ -14,8 +14,12 @@ package org.assertj.core.util.introspection;
 
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -29,6 +33,15 @@ import java.lang.reflect.Modifier;
  */
 public class FieldUtils {
 
+  // fields by name (including fields not found) per class, the lookup walks up the class hierarchy and is done for
+  // each element when extracting fields, it is cached to be done once per class.
+  private static final ClassValue<Map<String, Optional<Field>>> FIELDS = new ClassValue<Map<String, Optional<Field>>>() {
+    @Override
+    protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -44,6 +57,31 @@ public class FieldUtils {
   static Field getField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(cls != null, "The class must not be null");
     checkArgument(fieldName != null, "The field name must not be null");
+    Field field = lookUpField(cls, fieldName);
+    // non-public fields can only be read when forcing access
+    if (field != null && !Modifier.isPublic(field.getModifiers())) {
+      if (!forceAccess) throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+      // fields are cached so it is usually done once
+      if (!field.isAccessible()) field.setAccessible(true);
+    }
+    return field;
+  }
+
+  /**
+   * Returns the field with the given name in the given class, its superclasses or interfaces, null if there is none.
+   * <p>
+   * Unlike {@link #getField(Class, String, boolean)} it does not check whether the field can be read.
+   *
+   * @param cls the class to reflect, must not be null
+   * @param fieldName the field name to obtain
+   * @return the Field object or null
+   * @throws IllegalArgumentException if a matching field exists on two or more implemented interfaces
+   */
+  static Field lookUpField(final Class<?> cls, String fieldName) {
+    return FIELDS.get(cls).computeIfAbsent(fieldName, name -> Optional.ofNullable(findField(cls, name))).orElse(null);
+  }
+
+  private static Field findField(final Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -60,16 +98,7 @@ public class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
-        // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return acls.getDeclaredField(fieldName);
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -121,7 +150,16 @@ public class FieldUtils {
     } else {
       MemberUtils.setAccessibleWorkaround(field);
     }
-    return field.get(target);
+    MethodHandle fieldHandle = MemberAccessors.fieldHandle(field);
+    if (fieldHandle == null) return field.get(target);
+    try {
+      return (Object) fieldHandle.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable neverThrown) {
+      // reading a field does not throw checked exceptions
+      throw new IllegalStateException(neverThrown);
+    }
   }
 
   /**
@@ -20,7 +20,9 @@ import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility methods related to <a
@@ -32,6 +34,14 @@ public final class Introspection {
 
   private static boolean bareNamePropertyMethods = true;
 
+  // no-arg methods by name (including methods not found) per class, the lookup walks up the class hierarchy and is
+  // done for each element when extracting properties, it is cached to be done once per class.
+  private static final ClassValue<Map<String, Optional<Method>>> METHODS = newMethodCache();
+  // getters by property name per class, resolving a getter tries up to three method names built from the property name,
+  // there is one cache per bareNamePropertyMethods setting as the resolved getters depend on it.
+  private static final ClassValue<Map<String, Optional<Method>>> GETTERS = newMethodCache();
+  private static final ClassValue<Map<String, Optional<Method>>> GETTERS_WITH_BARE_NAME = newMethodCache();
+
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
    * 
@@ -44,18 +54,32 @@ public final class Introspection {
    * @throws IntrospectionError if the getter for the matching property cannot be found or accessed.
    */
   public static Method getPropertyGetter(String propertyName, Object target) {
+    Method getter = findPropertyGetter(propertyName, target);
+    if (getter == null) throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target));
+    return getter;
+  }
+
+  /**
+   * Returns the getter {@link Method} for a property matching the given name in the given object or null if there is
+   * no accessible one, unlike {@link #getPropertyGetter(String, Object)} it does not build an error in this case.
+   *
+   * @param propertyName the given property name.
+   * @param target the given object.
+   * @return the getter {@code Method} for a property matching the given name in the given object or null.
+   * @throws NullPointerException if the given property name is {@code null}.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException if the given object is {@code null}.
+   */
+  static Method findPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
-    Method getter;
+    Method getter = findGetter(propertyName, target);
+    if (getter == null || !isPublic(getter.getModifiers())) return null;
     try {
-      getter = findGetter(propertyName, target);
-      if (Modifier.isPublic(getter.getModifiers())) {
-        // force access for static class with public getter
-        getter.setAccessible(true);
-      }
-      getter.invoke(target);
-    } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target), t);
+      // force access for static class with public getter, getters are cached so it is usually done once
+      if (!getter.isAccessible()) getter.setAccessible(true);
+    } catch (RuntimeException e) {
+      return null;
     }
     return getter;
   }
@@ -64,6 +88,15 @@ public final class Introspection {
     Introspection.bareNamePropertyMethods = barenamePropertyMethods;
   }
 
+  /**
+   * Returns whether bare name property methods (like {@code name()}) are considered as getters.
+   *
+   * @return whether bare name property methods are considered as getters.
+   */
+  public static boolean canExtractBareNamePropertyMethods() {
+    return bareNamePropertyMethods;
+  }
+
   private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
     String targetTypeName = target.getClass().getName();
     String property = quote(propertyName);
@@ -74,11 +107,19 @@ public final class Introspection {
   }
 
   private static Method findGetter(String propertyName, Object target) {
+    boolean bareNames = bareNamePropertyMethods;
+    ClassValue<Map<String, Optional<Method>>> getters = bareNames ? GETTERS_WITH_BARE_NAME : GETTERS;
+    return getters.get(target.getClass())
+                  .computeIfAbsent(propertyName, name -> Optional.ofNullable(resolveGetter(name, target, bareNames)))
+                  .orElse(null);
+  }
+
+  private static Method resolveGetter(String propertyName, Object target, boolean bareNames) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
     Method getter = findMethod("get" + capitalized, target);
     if (getter != null) return getter;
-    if (bareNamePropertyMethods) {
+    if (bareNames) {
       // try to find bare name property
       getter = findMethod(propertyName, target);
       if (getter != null) return getter;
@@ -89,6 +130,11 @@ public final class Introspection {
 
   private static Method findMethod(String name, Object target) {
     Class<?> clazz = target.getClass();
+    return METHODS.get(clazz).computeIfAbsent(name, methodName -> Optional.ofNullable(findMethod(methodName, clazz)))
+                  .orElse(null);
+  }
+
+  private static Method findMethod(String name, Class<?> clazz) {
     // try public methods only
     try {
       return clazz.getMethod(name);
@@ -103,5 +149,14 @@ public final class Introspection {
     return null;
   }
 
+  private static ClassValue<Map<String, Optional<Method>>> newMethodCache() {
+    return new ClassValue<Map<String, Optional<Method>>>() {
+      @Override
+      protected Map<String, Optional<Method>> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+  }
+
   private Introspection() {}
 }
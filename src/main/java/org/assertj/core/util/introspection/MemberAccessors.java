@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles getters and fields to {@link MethodHandle}s of type {@code (Object)Object} to read values without the
+ * access checks and argument array of {@link Method#invoke(Object, Object...)} and {@link Field#get(Object)}.
+ * <p>
+ * Handles are cached per declaring class and member name (getters have no parameters, so the name is enough to
+ * identify them), members that can't be accessed through handles have no handle and must be read reflectively.
+ */
+final class MemberAccessors {
+
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<String, Optional<MethodHandle>>> GETTERS = newCache();
+  private static final ClassValue<Map<String, Optional<MethodHandle>>> FIELDS = newCache();
+
+  private MemberAccessors() {}
+
+  /**
+   * Returns a handle invoking the given getter on its {@code Object} argument, null if the getter can't be accessed
+   * through a handle.
+   *
+   * @param getter the getter to compile
+   * @return a handle of type {@code (Object)Object} invoking the getter or null.
+   */
+  static MethodHandle getterHandle(Method getter) {
+    boolean isStatic = isStatic(getter.getModifiers());
+    return GETTERS.get(getter.getDeclaringClass())
+                  .computeIfAbsent(getter.getName(), name -> compile(() -> LOOKUP.unreflect(getter), isStatic))
+                  .orElse(null);
+  }
+
+  /**
+   * Returns a handle reading the given field of its {@code Object} argument, null if the field can't be accessed
+   * through a handle.
+   *
+   * @param field the field to compile
+   * @return a handle of type {@code (Object)Object} reading the field or null.
+   */
+  static MethodHandle fieldHandle(Field field) {
+    boolean isStatic = isStatic(field.getModifiers());
+    return FIELDS.get(field.getDeclaringClass())
+                 .computeIfAbsent(field.getName(), name -> compile(() -> LOOKUP.unreflectGetter(field), isStatic))
+                 .orElse(null);
+  }
+
+  private static Optional<MethodHandle> compile(Unreflection unreflection, boolean isStatic) {
+    try {
+      MethodHandle handle = unreflection.unreflect();
+      // static members ignore the target like Method.invoke and Field.get do
+      if (isStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      return Optional.of(handle.asType(ACCESSOR_TYPE));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static ClassValue<Map<String, Optional<MethodHandle>>> newCache() {
+    return new ClassValue<Map<String, Optional<MethodHandle>>>() {
+      @Override
+      protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface Unreflection {
+    MethodHandle unreflect() throws IllegalAccessException;
+  }
+}
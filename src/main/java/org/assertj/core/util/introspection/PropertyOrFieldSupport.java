@@ -58,24 +58,41 @@ public class PropertyOrFieldSupport {
   }
 
   public Object getSimpleValue(String propertyOrFieldName, Object input) {
-    // first try to get given property values from objects, then try fields
+    // check whether there is a property or a field to read before reading them as building the introspection errors
+    // reported when they don't exist is costly, errors are only built when neither can be read.
+    if (input != null && propertySupport.publicGetterExistsFor(propertyOrFieldName, input)) {
+      try {
+        return propertySupport.propertyValueOf(propertyOrFieldName, Object.class, input);
+      } catch (IntrospectionError propertyIntrospectionError) {
+        // the getter has failed, let's try fields
+        return readField(propertyOrFieldName, input, propertyIntrospectionError);
+      }
+    }
+    if (input != null && fieldSupport.canReadField(propertyOrFieldName, input)) {
+      return fieldSupport.fieldValue(propertyOrFieldName, Object.class, input);
+    }
+    // no property nor field can be read, read them anyway to get the errors to report
     try {
       return propertySupport.propertyValueOf(propertyOrFieldName, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
       // no luck with properties, let's try fields
-      try {
-        return fieldSupport.fieldValue(propertyOrFieldName, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // no field nor property found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                propertyOrFieldName, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
-      }
+      return readField(propertyOrFieldName, input, propertyIntrospectionError);
+    }
+  }
+
+  private Object readField(String propertyOrFieldName, Object input, IntrospectionError propertyIntrospectionError) {
+    try {
+      return fieldSupport.fieldValue(propertyOrFieldName, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // no field nor property found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              propertyOrFieldName, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
@@ -21,6 +21,8 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -149,7 +151,7 @@ public class PropertySupport {
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
     Method getter = getPropertyGetter(propertyName, target);
     try {
-      return (T) getter.invoke(target);
+      return (T) invoke(getter, target);
     } catch (ClassCastException e) {
       String msg = format("Unable to obtain the value of the property <'%s'> from <%s> - wrong property type specified <%s>",
                           propertyName, target, clazz);
@@ -160,6 +162,20 @@ public class PropertySupport {
     }
   }
 
+  private static Object invoke(Method getter, Object target) throws ReflectiveOperationException {
+    MethodHandle getterHandle = MemberAccessors.getterHandle(getter);
+    if (getterHandle == null) return getter.invoke(target);
+    try {
+      return (Object) getterHandle.invokeExact(target);
+    } catch (VirtualMachineError | LinkageError e) {
+      throw e;
+    } catch (Throwable getterException) {
+      // getters called through handles throw their exceptions as is, they are wrapped like Method.invoke does so that
+      // they are not mistaken for introspection errors (e.g. a ClassCastException thrown by the getter)
+      throw new InvocationTargetException(getterException);
+    }
+  }
+
   /**
    * Returns the value of the given property name given target. If the given object is {@code null}, this method will
    * return null.<br>
@@ -207,12 +223,7 @@ public class PropertySupport {
   }
 
   public boolean publicGetterExistsFor(String fieldName, Object actual) {
-	try {
-	  getPropertyGetter(fieldName, actual);
-    } catch (IntrospectionError e) {
-      return false;
-    }
-	return true;
+    return Introspection.findPropertyGetter(fieldName, actual) != null;
   }
 
 }
@@ -19,7 +19,12 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.assertj.core.test.StringStream;
@@ -168,6 +173,68 @@ public class Assertions_assertThat_with_Stream_Test {
     assertThat(foos).hasSize(0);
   }
 
+  @Test
+  public void short_circuiting_assertions_should_work_with_infinite_streams() {
+    // GIVEN
+    Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+    // THEN
+    assertThat(naturals).isNotEmpty()
+                        .contains(10, 5)
+                        .anyMatch(i -> i > 100)
+                        .hasSizeGreaterThan(1000)
+                        .hasSizeGreaterThanOrEqualTo(2000)
+                        .startsWith(0, 1, 2)
+                        .first().isEqualTo(0);
+  }
+
+  @Test
+  public void should_only_consume_stream_up_to_the_element_looked_for() {
+    // GIVEN
+    AtomicInteger consumed = new AtomicInteger();
+    Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5).peek(i -> consumed.incrementAndGet());
+    // WHEN
+    assertThat(stream).contains(2)
+                      .hasSizeGreaterThan(2);
+    // THEN
+    assertThat(consumed).hasValue(3);
+  }
+
+  @Test
+  public void should_allow_chaining_assertions_on_a_file_stream_after_short_circuiting_assertions() throws IOException {
+    // GIVEN
+    Path file = Files.createTempFile("test", "test");
+    file.toFile().deleteOnExit();
+    Files.write(file, newArrayList("a", "b", "c"));
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<String> lines = Files.lines(file).onClose(() -> closed.set(true));
+    // WHEN
+    assertThat(lines).contains("a")
+                     .startsWith("a", "b")
+                     .anyMatch(line -> line.equals("b"))
+                     .hasSize(3)
+                     .containsExactly("a", "b", "c");
+    // THEN
+    assertThat(closed).as("stream closed once fully read").isTrue();
+  }
+
+  @Test
+  public void should_allow_chaining_assertions_after_size_assertions_that_do_not_read_the_stream() {
+    assertThat(Stream.of(1, 2)).hasSizeGreaterThanOrEqualTo(0)
+                               .hasSizeGreaterThan(-1)
+                               .containsExactly(1, 2);
+  }
+
+  @Test
+  public void hasSizeGreaterThan_should_fail_if_stream_is_too_short() {
+    try {
+      assertThat(Stream.of(1, 2)).hasSizeGreaterThan(2);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessageContaining("2");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   public static class Foo {
     private String id;
     private int bar;
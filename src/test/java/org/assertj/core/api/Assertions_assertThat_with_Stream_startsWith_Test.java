@@ -25,19 +25,16 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.CaseInsensitiveStringComparator;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 public class Assertions_assertThat_with_Stream_startsWith_Test {
 
   Stream<String> infiniteStream = Stream.generate(() -> "");
 
-  // TODO it is not possible for startsWith to support both infinite streams and assertion chaining
-  // assertion chaining has been chosen over infinite streams support
   @Test
-  @Disabled
   public void startsWith_should_work_with_infinite_streams() {
-    assertThat(infiniteStream).startsWith("", "");
+    assertThat(infiniteStream).startsWith("", "")
+                              .contains("");
   }
 
   @Test
@@ -18,6 +18,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.in;
@@ -39,9 +40,12 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalTime;
 import java.time.OffsetTime;
 import java.time.ZoneOffset;
@@ -56,6 +60,7 @@ import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -85,6 +90,7 @@ import org.assertj.core.data.TolkienCharacter;
 import org.assertj.core.data.TolkienCharacterAssert;
 import org.assertj.core.test.Animal;
 import org.assertj.core.test.CartoonCharacter;
+import org.assertj.core.test.Jedi;
 import org.assertj.core.test.Name;
 import org.assertj.core.test.Person;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
@@ -184,6 +190,68 @@ public class SoftAssertionsTest extends BaseAssertionsTest {
     assertThat(softly.wasSuccess()).isFalse();
   }
 
+  @Test
+  public void should_only_collect_the_error_of_the_outermost_nested_call() {
+    // WHEN
+    softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+    // THEN
+    assertThat(softly.errorsCollected()).hasSize(1);
+    assertThat(softly.wasSuccess()).isFalse();
+    assertThat(ErrorCollector.countErrorCollectorProxyCalls()).isZero();
+  }
+
+  @Test
+  public void should_collect_errors_of_chained_and_extracting_calls() {
+    // WHEN
+    softly.assertThat("abc")
+          .isNotNull()
+          .startsWith("b")
+          .endsWith("c")
+          .hasSize(4);
+    softly.assertThat(list(name("John", "Doe"), name("Jane", "Doe")))
+          .extracting(firstNameFunction)
+          .contains("Jim")
+          .containsOnly("John", "Jane");
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    assertThat(errorsCollected).hasSize(3);
+    assertThat(errorsCollected.get(0)).hasMessageContaining("to start with");
+    assertThat(errorsCollected.get(1)).hasMessageContaining("Expected size:<4> but was:<3>");
+    assertThat(errorsCollected.get(2)).hasMessageContaining("Jim");
+    assertThat(softly.wasSuccess()).isTrue();
+    assertThat(ErrorCollector.countErrorCollectorProxyCalls()).isZero();
+  }
+
+  @Test
+  public void should_let_the_outermost_soft_assertion_collect_the_error_of_another_soft_assertions_instance() {
+    // GIVEN
+    SoftAssertions otherSoftly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(list("Frodo", "Sam"))
+          .allSatisfy(name -> otherSoftly.assertThat(name).isEqualTo("Frodo"));
+    // THEN
+    assertThat(softly.errorsCollected()).hasSize(1);
+    assertThat(softly.errorsCollected().get(0)).hasMessageContaining("Sam");
+    assertThat(softly.wasSuccess()).isFalse();
+    assertThat(otherSoftly.errorsCollected()).isEmpty();
+    assertThat(ErrorCollector.countErrorCollectorProxyCalls()).isZero();
+  }
+
+  @Test
+  public void should_collect_errors_after_an_assertion_threw_an_exception_that_is_not_an_assertion_error() {
+    // GIVEN
+    Throwable exception = catchThrowable(() -> softly.assertThat("Frodo").satisfies(name -> {
+      throw new IllegalStateException("boom");
+    }));
+    // WHEN
+    softly.assertThat("Frodo").isEqualTo("Sam");
+    // THEN
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+    assertThat(ErrorCollector.countErrorCollectorProxyCalls()).isZero();
+    assertThat(softly.errorsCollected()).hasSize(1);
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void should_be_able_to_catch_exceptions_thrown_by_map_assertions() {
@@ -1913,6 +1981,84 @@ public class SoftAssertionsTest extends BaseAssertionsTest {
                                       .hasMessageContaining("MAN");
   }
 
+  @Test
+  public void should_allow_chaining_assertions_on_a_file_stream_after_short_circuiting_assertions() throws IOException {
+    // GIVEN
+    Path file = Files.createTempFile("test", "test");
+    file.toFile().deleteOnExit();
+    Files.write(file, list("a", "b", "c"));
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<String> lines = Files.lines(file).onClose(() -> closed.set(true));
+    // WHEN
+    softly.assertThat(lines)
+          .contains("a")
+          .startsWith("a", "b")
+          .hasSizeGreaterThanOrEqualTo(0)
+          .hasSize(3)
+          .containsExactly("a", "b", "c");
+    // THEN
+    softly.assertAll();
+    assertThat(closed).as("stream closed once fully read").isTrue();
+  }
+
+  @Test
+  public void should_collect_errors_of_assertions_evaluated_in_parallel() {
+    // GIVEN
+    List<Integer> numbers = list(1, 2, 3);
+    // WHEN
+    softly.assertThat(numbers)
+          .inParallel()
+          .allSatisfy(number -> assertThat(number).isLessThan(2));
+    softly.assertThat(numbers)
+          .inParallel(ForkJoinPool.commonPool())
+          .allSatisfy(number -> assertThat(number).isLessThan(10));
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    assertThat(errorsCollected).hasSize(1);
+    assertThat(errorsCollected.get(0)).hasMessageContaining("<2>")
+                                      .hasMessageContaining("<3>");
+  }
+
+  @Test
+  public void inParallel_should_not_be_considered_as_an_assertion() {
+    // WHEN
+    softly.assertThat(list(1, 2, 3)).allSatisfy(number -> assertThat(number).isLessThan(2));
+    softly.assertThat(list(1, 2, 3)).inParallel();
+    // THEN
+    assertThat(softly.wasSuccess()).isFalse();
+    assertThat(softly.errorsCollected()).hasSize(1);
+  }
+
+  @Test
+  public void should_collect_errors_of_recursive_comparisons_with_limits() {
+    // GIVEN
+    Jedi yoda = new Jedi("Yoda", "Green");
+    Jedi luke = new Jedi("Luke", "Blue");
+    // WHEN
+    softly.assertThat(yoda)
+          .withMaxRecursiveComparisonDepth(1)
+          .withMaxRecursivelyComparedValues(10)
+          .withMaxReportedDifferences(1)
+          .isEqualToComparingFieldByFieldRecursively(luke);
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    assertThat(errorsCollected).hasSize(1);
+    assertThat(errorsCollected.get(0)).hasMessageContaining("1 more difference(s) omitted, only the first 1 are reported.");
+  }
+
+  @Test
+  public void recursive_comparison_limits_should_not_be_considered_as_assertions() {
+    // WHEN
+    softly.assertThat(new Jedi("Yoda", "Green")).isEqualToComparingFieldByFieldRecursively(new Jedi("Luke", "Blue"));
+    softly.assertThat(new Jedi("Yoda", "Green"))
+          .withMaxRecursiveComparisonDepth(1)
+          .withMaxRecursivelyComparedValues(10)
+          .withMaxReportedDifferences(1);
+    // THEN
+    assertThat(softly.wasSuccess()).isFalse();
+    assertThat(softly.errorsCollected()).hasSize(1);
+  }
+
   @Nested
   class ExtractingFromEntries {
 
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.filter.Filters.filter;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.test.Player;
+import org.assertj.core.test.WithPlayerData;
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.junit.jupiter.api.Test;
+
+public class Filter_indexed_Test extends WithPlayerData {
+
+  @Test
+  public void should_filter_initial_iterable_elements_keeping_their_order() {
+    Filters<Player> filters = filter(players).with("team", "Chicago Bulls");
+    assertThat(filters.indexed().with("team").in("Los Angeles Lakers", "Chicago Bulls").get()).containsExactly(jordan,
+                                                                                                              magic,
+                                                                                                              kobe);
+    assertThat(filters.indexed().with("team").notIn("Los Angeles Lakers").get()).containsExactly(jordan, duncan);
+    assertThat(filters.indexed().with("team", "Los Angeles Lakers").get()).containsExactly(magic, kobe);
+    assertThat(filters.indexed().with("team").notEqualsTo("Chicago Bulls").get()).containsExactly(magic, kobe, duncan);
+    assertThat(filters.indexed().with("team", "Boston Celtics").get()).isEmpty();
+  }
+
+  @Test
+  public void should_apply_next_filters_on_filtered_elements() {
+    List<Player> filteredPlayers = filter(players).indexed()
+                                                  .with("team", "Los Angeles Lakers")
+                                                  .and("name.last").notIn("Bryant")
+                                                  .get();
+    assertThat(filteredPlayers).containsExactly(magic);
+  }
+
+  @Test
+  public void should_read_property_of_elements_only_once() {
+    // GIVEN
+    AtomicInteger reads = new AtomicInteger();
+    List<Counted> elements = newArrayList(new Counted(1, reads), new Counted(2, reads), new Counted(1, reads));
+    Filters<Counted> filters = filter(elements);
+    // WHEN
+    List<Counted> ones = filters.indexed().with("value", 1).get();
+    List<Counted> twos = filters.indexed().with("value").in(2, 3).get();
+    // THEN
+    assertThat(ones).containsExactly(elements.get(0), elements.get(2));
+    assertThat(twos).containsExactly(elements.get(1));
+    assertThat(reads).hasValue(3);
+  }
+
+  @Test
+  public void in_and_notIn_should_look_many_values_up_by_hash_code() {
+    // GIVEN
+    Object[] teams = { "Boston Celtics", "Chicago Bulls", null, new String[] { "Los Angeles Lakers" }, "Detroit Pistons",
+        "Miami Heat", "New York Knicks", "Utah Jazz", "Houston Rockets", "Phoenix Suns" };
+    // THEN
+    assertThat(filter(players).with("team").in(teams).get()).containsExactly(jordan);
+    assertThat(filter(players).with("team").notIn(teams).get()).containsExactly(magic, kobe, duncan);
+    assertThat(filter(players).indexed().with("team").in(teams).get()).containsExactly(jordan);
+  }
+
+  @Test
+  public void should_fail_if_elements_to_filter_do_not_have_property_or_field_used_by_filter() {
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).indexed()
+                                                                                        .with("country", "France"))
+                                                       .withMessageContaining("Can't find any field or property with name 'country'");
+  }
+
+  public static class Counted {
+    private final int value;
+    private final AtomicInteger reads;
+
+    Counted(int value, AtomicInteger reads) {
+      this.value = value;
+      this.reads = reads;
+    }
+
+    public int getValue() {
+      reads.incrementAndGet();
+      return value;
+    }
+  }
+}
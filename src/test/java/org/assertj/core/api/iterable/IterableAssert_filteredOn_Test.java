@@ -28,6 +28,7 @@ import static org.assertj.core.util.Sets.newHashSet;
 import java.util.Set;
 
 import org.assertj.core.api.IterableAssert;
+import org.assertj.core.api.ListAssert;
 import org.assertj.core.data.TolkienCharacter;
 import org.assertj.core.data.TolkienCharacterAssert;
 import org.assertj.core.data.TolkienCharacterAssertFactory;
@@ -43,6 +44,26 @@ public class IterableAssert_filteredOn_Test extends IterableAssert_filtered_base
     assertThat(employees).filteredOn("age", 800).containsOnly(yoda, obiwan);
   }
 
+  @Test
+  public void should_filter_iterable_under_test_several_times_on_the_same_property() {
+    ListAssert<Employee> employeesAssert = assertThat(employees);
+    employeesAssert.filteredOn("age", 800).containsOnly(yoda, obiwan);
+    employeesAssert.filteredOn("age", 26).containsOnly(luke);
+    employeesAssert.filteredOn("age", in(26, 10)).containsOnly(luke, noname);
+    employeesAssert.filteredOn("age", not(800)).containsOnly(luke, noname);
+  }
+
+  @Test
+  public void should_filter_iterable_under_test_on_current_property_values() {
+    ListAssert<Employee> employeesAssert = assertThat(employees);
+    employeesAssert.filteredOn("age", 800).containsOnly(yoda, obiwan);
+    // WHEN
+    luke.setAge(800);
+    // THEN
+    employeesAssert.filteredOn("age", 800).containsOnly(yoda, obiwan, luke);
+    employeesAssert.filteredOn("age", not(800)).containsOnly(noname);
+  }
+
   @Test
   public void should_filter_set_under_test_on_property_values() {
     Set<Employee> employeeSet = newHashSet(employees);
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class IterableAssert_inParallel_Test {
+
+  private final List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  public void shutdownPool() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void should_evaluate_elements_on_the_given_pool() {
+    // GIVEN
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    assertThat(numbers).inParallel(pool).allSatisfy(i -> threads.add(Thread.currentThread()));
+    // THEN
+    assertThat(threads).allMatch(thread -> thread.getName().contains("ForkJoinPool"));
+  }
+
+  @Test
+  public void should_pass_if_all_elements_satisfy_requirements() {
+    assertThat(numbers).inParallel(pool)
+                       .allSatisfy(i -> assertThat(i).isNotNegative())
+                       .allMatch(i -> i < 10_000)
+                       .noneMatch(i -> i < 0);
+  }
+
+  @Test
+  public void allSatisfy_should_report_unsatisfied_requirements_in_iterable_order() {
+    // GIVEN
+    Consumer<Integer> requirements = i -> assertThat(i % 1000).isNotZero();
+    // WHEN
+    Throwable parallelError = catchThrowable(() -> assertThat(numbers).inParallel(pool).allSatisfy(requirements));
+    // THEN
+    Throwable sequentialError = catchThrowable(() -> assertThat(numbers).allSatisfy(requirements));
+    assertThat(parallelError).isInstanceOf(AssertionError.class)
+                             .hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  public void allMatch_and_noneMatch_should_report_the_same_elements_as_sequential_evaluation() {
+    Throwable parallelError = catchThrowable(() -> assertThat(numbers).inParallel(pool).allMatch(i -> i % 3000 != 7));
+    Throwable sequentialError = catchThrowable(() -> assertThat(numbers).allMatch(i -> i % 3000 != 7));
+    assertThat(parallelError).hasMessage(sequentialError.getMessage());
+
+    parallelError = catchThrowable(() -> assertThat(numbers).inParallel(pool).noneMatch(i -> i % 3000 == 7));
+    sequentialError = catchThrowable(() -> assertThat(numbers).noneMatch(i -> i % 3000 == 7));
+    assertThat(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  public void filteredOn_should_keep_elements_in_iterable_order() {
+    assertThat(numbers).inParallel(pool)
+                       .filteredOn(i -> i % 2500 == 0)
+                       .containsExactly(0, 2500, 5000, 7500);
+  }
+
+  @Test
+  public void should_keep_element_comparator() {
+    assertThat(newArrayList("Luke", "Yoda")).usingElementComparator(CaseInsensitiveStringComparator.instance)
+                                            .inParallel(pool)
+                                            .contains("LUKE")
+                                            .filteredOn(name -> name.startsWith("Y"))
+                                            .containsExactly("YODA");
+  }
+
+  @Test
+  public void should_fail_if_pool_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThat(numbers).inParallel(null))
+                                    .withMessage("The pool to evaluate elements on must not be null");
+  }
+}
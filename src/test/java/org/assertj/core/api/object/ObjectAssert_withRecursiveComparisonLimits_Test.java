@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api.object;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import org.assertj.core.api.ObjectAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ObjectAssert#withMaxRecursiveComparisonDepth(int)}</code>,
+ * <code>{@link ObjectAssert#withMaxRecursivelyComparedValues(int)}</code> and
+ * <code>{@link ObjectAssert#withMaxReportedDifferences(int)}</code>.
+ */
+public class ObjectAssert_withRecursiveComparisonLimits_Test {
+
+  @Test
+  public void should_only_report_max_reported_differences() {
+    // GIVEN
+    Node actual = chain("a", 3);
+    Node other = chain("b", 3);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(actual).withMaxReportedDifferences(1)
+                                                                        .isEqualToComparingFieldByFieldRecursively(other));
+    // THEN
+    assertThat(error).hasMessageContaining("Path to difference: <next.next.name>")
+                     .hasMessageNotContaining("Path to difference: <name>")
+                     .hasMessageContaining("2 more difference(s) omitted, only the first 1 are reported.");
+  }
+
+  @Test
+  public void should_not_compare_values_nested_deeper_than_max_depth() {
+    // GIVEN
+    Node actual = new Node("luke", chain("a", 2));
+    Node other = new Node("luke", chain("b", 2));
+    // THEN
+    assertThat(actual).withMaxRecursiveComparisonDepth(1)
+                      .isEqualToComparingFieldByFieldRecursively(other);
+  }
+
+  @Test
+  public void should_report_that_values_nested_deeper_than_max_depth_were_not_compared() {
+    // GIVEN
+    Node actual = chain("a", 3);
+    Node other = chain("b", 3);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(actual).withMaxRecursiveComparisonDepth(1)
+                                                                        .isEqualToComparingFieldByFieldRecursively(other));
+    // THEN
+    assertThat(error).hasMessageContaining("Path to difference: <name>")
+                     .hasMessageNotContaining("Path to difference: <next.name>")
+                     .hasMessageContaining("Values nested in more than 1 fields were not compared.");
+  }
+
+  @Test
+  public void should_report_that_comparison_stopped_after_max_compared_values() {
+    // GIVEN
+    Node actual = chain("a", 3);
+    Node other = chain("b", 3);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(actual).withMaxRecursivelyComparedValues(5)
+                                                                        .isEqualToComparingFieldByFieldRecursively(other));
+    // THEN
+    assertThat(error).hasMessageContaining("The comparison stopped after comparing 5 values, the remaining ones were not compared.");
+  }
+
+  @Test
+  public void should_fail_if_limits_are_not_positive() {
+    Node actual = chain("a", 1);
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThat(actual).withMaxRecursiveComparisonDepth(0))
+                                        .withMessage("The max depth must be positive but was 0");
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThat(actual).withMaxRecursivelyComparedValues(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThat(actual).withMaxReportedDifferences(0));
+  }
+
+  // chain of nodes whose names start with the given prefix
+  private static Node chain(String prefix, int length) {
+    Node head = null;
+    for (int i = length; i > 0; i--) {
+      head = new Node(prefix + i, head);
+    }
+    return head;
+  }
+
+  @SuppressWarnings("unused")
+  private static class Node {
+    private final String name;
+    private final Node next;
+
+    Node(String name, Node next) {
+      this.name = name;
+      this.next = next;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
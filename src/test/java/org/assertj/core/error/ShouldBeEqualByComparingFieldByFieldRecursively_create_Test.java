@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursive;
 import static org.assertj.core.internal.DeepDifference.determineDifferences;
+import static org.assertj.core.internal.RecursiveComparisonLimits.noLimits;
 
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -29,6 +30,8 @@ import java.util.TreeSet;
 import org.assertj.core.api.ThrowableAssert;
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.internal.DeepDifference.Difference;
+import org.assertj.core.internal.DeepDifference.LimitedDifferences;
+import org.assertj.core.internal.RecursiveComparisonLimits;
 import org.assertj.core.internal.objects.Objects_assertIsEqualToComparingFieldByFieldRecursive_Test.WithCollection;
 import org.assertj.core.internal.objects.Objects_assertIsEqualToComparingFieldByFieldRecursive_Test.WithMap;
 import org.assertj.core.presentation.Representation;
@@ -168,4 +171,58 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively_create_Test {
 
   }
 
+
+  @Test
+  public void should_report_omitted_differences_and_values_not_compared() {
+    // GIVEN
+    Outer actual = new Outer("Luke", "Lucky", "jedi");
+    Outer other = new Outer("Leia", "Princess", "rebel");
+    RecursiveComparisonLimits limits = noLimits().withMaxReportedDifferences(1).withMaxDepth(1);
+    LimitedDifferences differences = determineDifferences(actual, other, null, null, limits);
+    // WHEN
+    String message = shouldBeEqualByComparingFieldByFieldRecursive(actual, other, differences, REPRESENTATION)
+        .create(new TextDescription("Test"), REPRESENTATION);
+    // THEN
+    assertThat(message).isEqualTo(format("[Test] %n" +
+                                         "Expecting:%n" +
+                                         "  <Outer Luke>%n" +
+                                         "to be equal to:%n" +
+                                         "  <Outer Leia>%n" +
+                                         "when recursively comparing field by field, but found the following difference(s):%n" +
+                                         "%n" +
+                                         "Path to difference: <nickname>%n" +
+                                         "- actual  : <\"Lucky\">%n" +
+                                         "- expected: <\"Princess\">%n" +
+                                         "%n" +
+                                         "1 more difference(s) omitted, only the first 1 are reported.%n" +
+                                         "%n" +
+                                         "Values nested in more than 1 fields were not compared."));
+  }
+
+  @SuppressWarnings("unused")
+  private static class Outer {
+    private final String name;
+    private final String nickname;
+    private final Inner inner;
+
+    Outer(String name, String nickname, String innerValue) {
+      this.name = name;
+      this.nickname = nickname;
+      this.inner = new Inner(innerValue);
+    }
+
+    @Override
+    public String toString() {
+      return "Outer " + name;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class Inner {
+    private final String value;
+
+    Inner(String value) {
+      this.value = value;
+    }
+  }
 }
@@ -145,6 +145,19 @@ public class ByNameSingleExtractorTest {
     Assertions.setExtractBareNamePropertyMethods(true);
   }
 
+  @Test
+  public void should_honor_barename_setting_changed_after_property_was_extracted() {
+    BareOptionalIntHolder holder = new BareOptionalIntHolder(42);
+    assertThat(byName("value").apply(holder)).isEqualTo(OptionalInt.of(42));
+    try {
+      Assertions.setExtractBareNamePropertyMethods(false);
+      assertThat(byName("value").apply(holder)).isEqualTo(42);
+    } finally {
+      Assertions.setExtractBareNamePropertyMethods(true);
+    }
+    assertThat(byName("value").apply(holder)).isEqualTo(OptionalInt.of(42));
+  }
+
   public static class EmployeeWithBrokenName extends Employee {
 
     public EmployeeWithBrokenName(String name) {
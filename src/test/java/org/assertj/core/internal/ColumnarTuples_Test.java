@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extractTuples;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarTuples_Test {
+
+  private final List<Object[]> rows = newArrayList(new Object[] { 1, 1L, 1.0, true, "a" },
+                                                   new Object[] { 2, 2L, Double.NaN, false, new int[] { 2 } });
+
+  @Test
+  public void should_return_rows_as_tuples() {
+    // WHEN
+    List<Tuple> tuples = columnsOf(rows);
+    // THEN
+    assertThat(tuples).hasSize(2);
+    assertThat(tuples.get(0)).isEqualTo(tuple(1, 1L, 1.0, true, "a"));
+    assertThat(tuples.get(1)).isEqualTo(tuple(2, 2L, Double.NaN, false, new int[] { 2 }));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tuples.get(2));
+  }
+
+  @Test
+  public void should_build_the_tuple_of_a_row_once() {
+    // GIVEN
+    List<Tuple> tuples = columnsOf(rows);
+    // WHEN
+    Tuple tuple = tuples.get(1);
+    // THEN
+    assertThat(tuples.get(1)).isSameAs(tuple);
+    assertThat(tuples).element(1).isSameAs(tuple);
+  }
+
+  @Test
+  public void should_keep_values_of_different_types_in_the_same_column() {
+    // GIVEN
+    List<Object[]> mixedRows = newArrayList(new Object[] { 1 }, new Object[] { null }, new Object[] { 3L },
+                                            new Object[] { "4" });
+    // WHEN
+    List<Tuple> tuples = columnsOf(mixedRows);
+    // THEN
+    assertThat(tuples).containsExactly(tuple(1), tuple((Object) null), tuple(3L), tuple("4"));
+  }
+
+  @Test
+  public void should_compare_rows_like_tuples() {
+    // GIVEN
+    ColumnarTuples tuples = columnsOf(rows);
+    // THEN
+    assertThat(tuples.rowEquals(0, tuple(1, 1L, 1.0, true, "a"))).isTrue();
+    assertThat(tuples.rowEquals(0, tuple(1L, 1, 1.0, true, "a"))).isFalse();
+    assertThat(tuples.rowEquals(0, tuple(1, 1L, 1.0, true))).isFalse();
+    assertThat(tuples.rowEquals(0, null)).isFalse();
+    assertThat(tuples.rowEquals(1, tuple(2, 2L, Double.NaN, false, new int[] { 2 }))).isTrue();
+    assertThat(tuples.rowEquals(1, tuple(2, 2L, -0.0, false, new int[] { 2 }))).isFalse();
+  }
+
+  @Test
+  public void should_hash_rows_like_tuples() {
+    // GIVEN
+    ColumnarTuples tuples = columnsOf(rows);
+    // THEN
+    assertThat(tuples.rowHashCode(0)).isEqualTo(tuple(1, 1L, 1.0, true, "a").hashCode());
+    assertThat(tuples.rowHashCode(1)).isEqualTo(tuple(2, 2L, Double.NaN, false, new int[] { 2 }).hashCode());
+  }
+
+  @Test
+  public void should_pass_tuple_assertions_without_building_tuples() {
+    ColumnarTuples tuples = columnsOf(rows);
+    assertThat(tuples).containsExactly(tuple(1, 1L, 1.0, true, "a"), tuple(2, 2L, Double.NaN, false, new int[] { 2 }))
+                      .containsOnly(tuple(2, 2L, Double.NaN, false, new int[] { 2 }), tuple(1, 1L, 1.0, true, "a"))
+                      .contains(tuple(2, 2L, Double.NaN, false, new int[] { 2 }));
+  }
+
+  @Test
+  public void should_report_the_same_errors_as_with_tuples() {
+    // GIVEN
+    ColumnarTuples tuples = columnsOf(rows);
+    List<Tuple> expectedTuples = new ArrayList<>(tuples);
+    Tuple[] values = { tuple(1, 1L, 1.0, true, "b"), tuple(2, 2L, Double.NaN, false, new int[] { 2 }) };
+    // WHEN
+    Throwable containsExactlyError = catchThrowable(() -> assertThat(tuples).containsExactly(values));
+    Throwable containsOnlyError = catchThrowable(() -> assertThat(tuples).containsOnly(values));
+    Throwable containsError = catchThrowable(() -> assertThat(tuples).contains(values));
+    // THEN
+    assertThat(containsExactlyError).hasMessage(errorMessage(() -> assertThat(expectedTuples).containsExactly(values)));
+    assertThat(containsOnlyError).hasMessage(errorMessage(() -> assertThat(expectedTuples).containsOnly(values)));
+    assertThat(containsError).hasMessage(errorMessage(() -> assertThat(expectedTuples).contains(values)));
+  }
+
+  @Test
+  public void should_extract_tuples_with_functions() {
+    // GIVEN
+    Function<String, Object> length = String::length;
+    Function<String, Object> firstLetter = s -> s.charAt(0);
+    // WHEN
+    List<Tuple> tuples = extractTuples(newArrayList("Luke", "Yoda"), length, firstLetter);
+    // THEN
+    assertThat(tuples).containsExactly(tuple(4, 'L'), tuple(4, 'Y'));
+  }
+
+  private static String errorMessage(ThrowingCallable assertion) {
+    return catchThrowable(assertion).getMessage();
+  }
+
+  private static ColumnarTuples columnsOf(List<Object[]> rows) {
+    return ColumnarTuples.extract(rows, rows.get(0).length,
+                                  (row, values) -> System.arraycopy(row, 0, values, 0, row.length));
+  }
+}
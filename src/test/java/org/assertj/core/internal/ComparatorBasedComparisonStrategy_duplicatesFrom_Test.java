@@ -18,6 +18,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,14 @@ public class ComparatorBasedComparisonStrategy_duplicatesFrom_Test extends Abstr
     assertThat(caseInsensitiveComparisonStrategy.iterableContains(duplicates, null)).isTrue();
   }
 
+  @Test
+  public void should_return_duplicates_in_the_order_they_are_found() {
+    List<Object> duplicates = newArrayList(caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Merry", "Frodo",
+                                                                                                         "Sam", "FRODO",
+                                                                                                         "MERRY", "merry")));
+    assertThat(duplicates).containsExactly("FRODO", "MERRY");
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#sortAndMatch(List, List, boolean)}.
+ */
+public class ComparatorBasedComparisonStrategy_sortAndMatch_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  public void should_match_each_value_with_all_equal_elements_when_not_counting_occurrences() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", null, "MERRY", "Sam", "Pippin");
+    List<String> values = newArrayList("sam", "merry", null, "Bilbo");
+    boolean[] matched = caseInsensitiveComparisonStrategy.sortAndMatch(hobbits, values, false);
+    assertThat(matched).containsExactly(true, false, true, true, true, false);
+  }
+
+  @Test
+  public void should_match_each_value_with_the_first_unmatched_equal_element_when_counting_occurrences() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", null, "MERRY", "Sam", null, "merry");
+    List<String> values = newArrayList("merry", null, "SAM", "Merry");
+    boolean[] matched = caseInsensitiveComparisonStrategy.sortAndMatch(hobbits, values, true);
+    assertThat(matched).containsExactly(true, false, true, true, true, false, false);
+  }
+
+  @Test
+  public void should_match_elements_with_a_comparator_that_is_not_a_total_order() {
+    Comparator<String> equalsIgnoringCase = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(equalsIgnoringCase);
+    List<String> hobbits = newArrayList("Merry", "Frodo", "Sam", "Pippin");
+    List<String> values = newArrayList("pippin", "sam", "frodo", "merry");
+    boolean[] matched = comparisonStrategy.sortAndMatch(hobbits, values, true);
+    assertThat(matched).containsOnly(true);
+  }
+
+  @Test
+  public void should_not_sort_elements_with_comparators_only_telling_whether_objects_are_equal() {
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(new FieldByFieldComparator());
+    assertThat(comparisonStrategy.sortAndMatch(newArrayList("Frodo"), newArrayList("Frodo"), true)).isNull();
+  }
+
+  @Test
+  public void should_not_sort_elements_the_comparator_cannot_compare() {
+    Comparator<Object> stringComparator = (o1, o2) -> ((String) o1).compareTo((String) o2);
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(stringComparator);
+    assertThat(comparisonStrategy.sortAndMatch(newArrayList("Frodo", 1), newArrayList("Frodo"), true)).isNull();
+  }
+}
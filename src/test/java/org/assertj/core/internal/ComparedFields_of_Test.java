@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ComparedFields_of_Test {
+
+  @AfterEach
+  public void tearDown() {
+    Assertions.setAllowComparingPrivateFields(true);
+  }
+
+  @Test
+  public void should_return_declared_and_inherited_fields_in_declaration_order() {
+    assertThat(ComparedFields.of(new Person())).containsExactly("name", "nickname", "id");
+  }
+
+  @Test
+  public void should_not_return_ignored_fields() {
+    assertThat(ComparedFields.of(new Person(), "nickname")).containsExactly("name", "id");
+    assertThat(ComparedFields.of(new Person(), "nickname", "id")).containsExactly("name");
+  }
+
+  @Test
+  public void should_only_return_private_fields_with_public_getter_when_comparing_private_fields_is_not_allowed() {
+    // GIVEN
+    Person person = new Person();
+    // WHEN
+    ComparedFields.of(person);
+    Assertions.setAllowComparingPrivateFields(false);
+    // THEN
+    assertThat(ComparedFields.of(person)).containsExactly("name", "id");
+  }
+
+  private static class Entity {
+    private final long id = 1;
+
+    @SuppressWarnings("unused")
+    public long getId() {
+      return id;
+    }
+  }
+
+  private static class Person extends Entity {
+    @SuppressWarnings("unused")
+    private static final String TYPE = "person";
+    public final String name = "Yoda";
+    @SuppressWarnings("unused")
+    private final String nickname = "Master";
+  }
+}
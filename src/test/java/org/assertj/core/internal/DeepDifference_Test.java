@@ -29,6 +29,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -177,6 +178,37 @@ public class DeepDifference_Test {
     assertHaveNoDifferences(a, b, fieldComparators, defaultTypeComparators());
   }
 
+  @Test
+  public void testUnorderedCollectionWithCollidingHashCodes() {
+    // deepHashCode rounds floating point numbers
+    Set<Double> a = newLinkedHashSet(1.1, 1.2, 1.3);
+    Set<Double> b = newLinkedHashSet(1.3, 1.1, 1.2);
+    assertHaveNoDifferences(a, b, noFieldComparators(), new TypeComparators());
+
+    Set<Double> c = newLinkedHashSet(1.3, 1.1, 1.4);
+    assertHaveDifferences(a, c, noFieldComparators(), new TypeComparators());
+  }
+
+  @Test
+  public void testUnorderedCollectionWithDuplicates() {
+    Collection<Wrapper> a = new ArrayDeque<>(newArrayList(new Wrapper("one"), new Wrapper("one"), new Wrapper("two")));
+    Collection<Wrapper> b = new ArrayDeque<>(newArrayList(new Wrapper("two"), new Wrapper("one"), new Wrapper("one")));
+    assertHaveNoDifferences(a, b);
+
+    Collection<Wrapper> c = new ArrayDeque<>(newArrayList(new Wrapper("one"), new Wrapper("two"), new Wrapper("two")));
+    assertHaveDifferences(a, c);
+  }
+
+  @Test
+  public void testUnorderedCollectionOfDifferentTypes() {
+    Collection<Object> a = new ArrayDeque<>(newArrayList(new Wrapper("one"), new Wrapper("two")));
+    Collection<Object> b = new ArrayDeque<>(newArrayList(new SubWrapper("two", 2), new SubWrapper("one", 1)));
+    assertHaveNoDifferences(a, b);
+
+    Collection<Object> c = new ArrayDeque<>(newArrayList(new SubWrapper("two", 2), new SubWrapper("three", 3)));
+    assertHaveDifferences(a, c);
+  }
+
   @Test
   public void testEquivalentMaps() {
     Map<String, Integer> map1 = new LinkedHashMap<>();
@@ -289,6 +321,52 @@ public class DeepDifference_Test {
     assertThat(DeepDifference.deepHashCode(a1)).isNotEqualTo(DeepDifference.deepHashCode(a2));
   }
 
+  @Test
+  public void testCyclicGraphs() {
+    Wrapper a = new Wrapper(null);
+    a.o = newArrayList(a, new Wrapper(a));
+    Wrapper b = new Wrapper(null);
+    b.o = newArrayList(b, new Wrapper(b));
+    assertHaveNoDifferences(a, b);
+  }
+
+  @Test
+  public void testDeepHashCodeOfCyclicGraphs() {
+    Wrapper a = new Wrapper(null);
+    Wrapper b = new Wrapper(newArrayList("one", a));
+    a.o = newArrayList("two", b);
+    assertThat(DeepDifference.deepHashCode(a)).isEqualTo(DeepDifference.deepHashCode(b));
+
+    SetWrapper x1 = new SetWrapper(null);
+    x1.set = newLinkedHashSet(new Wrapper(x1), new Wrapper(newArrayList(x1, "one")), new Wrapper("two"));
+    SetWrapper x2 = new SetWrapper(null);
+    x2.set = newLinkedHashSet(new Wrapper("two"), new Wrapper(newArrayList(x2, "one")), new Wrapper(x2));
+    assertHaveNoDifferences(x1, x2, noFieldComparators(), new TypeComparators());
+  }
+
+  @Test
+  public void testCyclicGraphsWithDifferentNumberOfObjectsInSets() {
+    SubWrapper self = new SubWrapper(null, 1);
+    ((Wrapper) self).o = self;
+    SubWrapper a = new SubWrapper(null, 1);
+    SubWrapper b = new SubWrapper(a, 1);
+    ((Wrapper) a).o = b;
+    assertThat(DeepDifference.deepHashCode(self)).isEqualTo(DeepDifference.deepHashCode(a))
+                                                 .isEqualTo(DeepDifference.deepHashCode(b));
+    assertHaveNoDifferences(newLinkedHashSet(self, "one"), newLinkedHashSet("one", a), noFieldComparators(),
+                            new TypeComparators());
+  }
+
+  @Test
+  public void testDifferencePath() {
+    Wrapper a = new Wrapper(new Wrapper(newArrayList(new Wrapper("one"))));
+    Wrapper b = new Wrapper(new Wrapper(newArrayList(new Wrapper("two"))));
+    List<DeepDifference.Difference> differences = DeepDifference.determineDifferences(a, b, noFieldComparators(),
+                                                                                      defaultTypeComparators());
+    assertThat(differences).extracting(DeepDifference.Difference::getPath)
+                           .containsExactly(newArrayList("o", "o", "o"));
+  }
+
   @Test
   public void testHasCustomMethod() {
     assertThat(DeepDifference.hasCustomEquals(EmptyClass.class)).isFalse();
@@ -329,6 +407,7 @@ public class DeepDifference_Test {
 
   private void assertHaveNoDifferences(Object x, Object y, Map<String, Comparator<?>> fieldComparators, TypeComparators typeComparators) {
     assertThat(DeepDifference.determineDifferences(x, y, fieldComparators, typeComparators)).isEmpty();
+    assertThat(DeepDifference.deepEquals(x, y, fieldComparators, typeComparators)).isTrue();
   }
 
   private void assertHaveDifferences(Object x, Object y) {
@@ -337,6 +416,7 @@ public class DeepDifference_Test {
 
   private void assertHaveDifferences(Object x, Object y, Map<String, Comparator<?>> fieldComparators, TypeComparators typeComparators) {
     assertThat(DeepDifference.determineDifferences(x, y, fieldComparators, typeComparators)).isNotEmpty();
+    assertThat(DeepDifference.deepEquals(x, y, fieldComparators, typeComparators)).isFalse();
   }
 
   private static class EmptyClass {
@@ -404,6 +484,17 @@ public class DeepDifference_Test {
     }
   }
 
+  private static class SubWrapper extends Wrapper {
+
+    @SuppressWarnings("unused")
+    private int i;
+
+    private SubWrapper(Object o, int i) {
+      super(o);
+      this.i = i;
+    }
+  }
+
   private static class SetWrapper {
 
     @SuppressWarnings("unused")
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.internal.RecursiveComparisonLimits.noLimits;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.internal.DeepDifference.Difference;
+import org.assertj.core.internal.DeepDifference.LimitedDifferences;
+import org.junit.jupiter.api.Test;
+
+public class DeepDifference_limits_Test {
+
+  @Test
+  public void should_report_all_differences_without_limits() {
+    // GIVEN
+    Node actual = chain("a", 5);
+    Node other = chain("b", 5);
+    // WHEN
+    LimitedDifferences differences = DeepDifference.determineDifferences(actual, other, null, null, noLimits());
+    // THEN
+    assertThat(differences.getDifferences()).hasToString(differences(actual, other).toString());
+    assertThat(differences.getOmittedDifferences()).isZero();
+    assertThat(differences.isMaxDepthReached()).isFalse();
+    assertThat(differences.isMaxComparedValuesReached()).isFalse();
+  }
+
+  @Test
+  public void should_only_count_differences_past_the_max_reported_ones() {
+    // GIVEN
+    Node actual = chain("a", 5);
+    Node other = chain("b", 5);
+    // WHEN
+    LimitedDifferences differences = DeepDifference.determineDifferences(actual, other, null, null,
+                                                                         noLimits().withMaxReportedDifferences(2));
+    // THEN
+    assertThat(differences.getDifferences()).hasToString(differences(actual, other).subList(0, 2).toString());
+    assertThat(differences.getOmittedDifferences()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_not_compare_values_nested_deeper_than_max_depth() {
+    // GIVEN
+    Node actual = chain("a", 5);
+    Node other = chain("b", 5);
+    // WHEN
+    LimitedDifferences differences = DeepDifference.determineDifferences(actual, other, null, null,
+                                                                         noLimits().withMaxDepth(3));
+    // THEN
+    assertThat(differences.getDifferences()).extracting(Difference::getPath)
+                                            .containsExactly(list("next", "next", "name"), list("next", "name"),
+                                                             list("name"));
+    assertThat(differences.isMaxDepthReached()).isTrue();
+  }
+
+  @Test
+  public void should_stop_comparison_after_max_compared_values() {
+    // GIVEN
+    Node actual = chain("a", 5);
+    Node other = chain("b", 5);
+    // WHEN
+    LimitedDifferences differences = DeepDifference.determineDifferences(actual, other, null, null,
+                                                                         noLimits().withMaxComparedValues(8));
+    // THEN
+    // the 5 next nodes are compared first, then the names from the last node
+    assertThat(differences.getDifferences()).hasToString(differences(actual, other).subList(0, 3).toString());
+    assertThat(differences.isMaxComparedValuesReached()).isTrue();
+  }
+
+  @Test
+  public void should_not_report_reached_limits_when_objects_are_within_limits() {
+    // WHEN
+    LimitedDifferences differences = DeepDifference.determineDifferences(chain("a", 2), chain("a", 2), null, null,
+                                                                         noLimits().withMaxDepth(10)
+                                                                                   .withMaxComparedValues(10)
+                                                                                   .withMaxReportedDifferences(1));
+    // THEN
+    assertThat(differences.isEmpty()).isTrue();
+    assertThat(differences.isMaxDepthReached()).isFalse();
+    assertThat(differences.isMaxComparedValuesReached()).isFalse();
+  }
+
+  @Test
+  public void should_fail_if_limits_are_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> noLimits().withMaxDepth(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> noLimits().withMaxComparedValues(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> noLimits().withMaxReportedDifferences(-1));
+  }
+
+  private static List<Difference> differences(Object actual, Object other) {
+    return DeepDifference.determineDifferences(actual, other, null, null);
+  }
+
+  // chain of nodes whose names start with the given prefix
+  private static Node chain(String prefix, int length) {
+    Node head = null;
+    for (int i = length; i > 0; i--) {
+      head = new Node(prefix + i, head);
+    }
+    return head;
+  }
+
+  private static class Node {
+    private final String name;
+    private final Node next;
+
+    Node(String name, Node next) {
+      this.name = name;
+      this.next = next;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.assertj.core.internal.DeepDifference.Difference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DeepDifference_parallelComparison_Test {
+
+  @AfterEach
+  public void tearDown() {
+    DeepDifference.setParallelComparison(false);
+  }
+
+  @Test
+  public void should_report_the_same_differences_in_the_same_order_as_sequential_comparison() {
+    // GIVEN
+    Node actual = wideGraph(0);
+    Node other = wideGraph(7);
+    // WHEN
+    List<Difference> sequentialDifferences = differences(actual, other);
+    DeepDifference.setParallelComparison(true);
+    List<Difference> parallelDifferences = differences(actual, other);
+    // THEN
+    assertThat(sequentialDifferences).isNotEmpty();
+    assertThat(parallelDifferences).hasSameSizeAs(sequentialDifferences);
+    for (int i = 0; i < sequentialDifferences.size(); i++) {
+      assertThat(parallelDifferences.get(i)).hasToString(sequentialDifferences.get(i).toString());
+    }
+  }
+
+  @Test
+  public void should_not_report_differences_of_equivalent_graphs() {
+    // GIVEN
+    DeepDifference.setParallelComparison(true);
+    // THEN
+    assertThat(differences(wideGraph(0), wideGraph(0))).isEmpty();
+  }
+
+  private static List<Difference> differences(Object actual, Object other) {
+    return DeepDifference.determineDifferences(actual, other, new HashMap<>(), defaultTypeComparators());
+  }
+
+  // graph with many children sharing nodes, some having differences when seed is not 0
+  private static Node wideGraph(int seed) {
+    Node root = new Node("root");
+    Node shared = new Node("shared");
+    shared.children.add(new Node(seed == 0 ? "leaf" : "changed leaf"));
+    for (int i = 0; i < 100; i++) {
+      Node child = new Node(seed != 0 && i % seed == 0 ? "changed " + i : "child " + i);
+      child.children.add(shared);
+      child.children.add(root);
+      for (int j = 0; j < 10; j++) {
+        child.children.add(new Node(seed != 0 && j % seed == 3 ? "changed " + j : "grandchild " + j));
+      }
+      if (i % 10 == 0) shared = new Node("shared " + i);
+      root.children.add(child);
+    }
+    return root;
+  }
+
+  private static class Node {
+    private final String name;
+    private final List<Node> children = new ArrayList<>();
+
+    Node(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
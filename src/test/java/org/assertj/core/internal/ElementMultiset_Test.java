@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ElementMultiset}.
+ */
+public class ElementMultiset_Test {
+
+  @Test
+  public void should_count_occurrences() {
+    ElementMultiset multiset = ElementMultiset.of(newArrayList("Luke", "Yoda", "Luke", null));
+    assertThat(multiset.removeOne("Luke")).isTrue();
+    assertThat(multiset.removeOne("Luke")).isTrue();
+    assertThat(multiset.removeOne("Luke")).isFalse();
+    assertThat(multiset.contains(null)).isTrue();
+    assertThat(multiset.removeOne(null)).isTrue();
+    assertThat(multiset.removeOne("Yoda")).isTrue();
+    assertThat(multiset.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void should_compare_arrays_by_content() {
+    ElementMultiset multiset = ElementMultiset.of(newArrayList(new int[] { 1, 2 }, array("a", "b")));
+    assertThat(multiset.contains(new int[] { 1, 2 })).isTrue();
+    assertThat(multiset.contains(new Integer[] { 1, 2 })).isTrue();
+    assertThat(multiset.contains(array("a", "b"))).isTrue();
+    assertThat(multiset.contains(array("b", "a"))).isFalse();
+  }
+
+  @Test
+  public void should_only_index_elements_with_hashCode_consistent_with_equals() {
+    assertThat(ElementMultiset.isHashable("Luke")).isTrue();
+    assertThat(ElementMultiset.isHashable(new Object())).isTrue();
+    assertThat(ElementMultiset.isHashable(null)).isTrue();
+    assertThat(ElementMultiset.isHashable(array("Luke", null))).isTrue();
+    assertThat(ElementMultiset.isHashable(new EqualsWithoutHashCode())).isFalse();
+    assertThat(ElementMultiset.isHashable(new EqualsWithoutHashCode[] { new EqualsWithoutHashCode() })).isFalse();
+    assertThat(ElementMultiset.isHashable(new EqualsOverriddenBelowHashCode())).isFalse();
+  }
+
+  @Test
+  public void should_only_index_elements_compared_with_standard_comparison_strategy() {
+    StandardComparisonStrategy standard = StandardComparisonStrategy.instance();
+    assertThat(ElementMultiset.canIndex(standard, newArrayList("Luke"), newArrayList("Yoda"))).isTrue();
+    assertThat(ElementMultiset.canIndex(standard, newArrayList("Luke"), newArrayList(new EqualsWithoutHashCode()))).isFalse();
+    ComparatorBasedComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    assertThat(ElementMultiset.canIndex(caseInsensitive, newArrayList("Luke"), newArrayList("Yoda"))).isFalse();
+  }
+
+  private static class EqualsWithoutHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode;
+    }
+  }
+
+  private static class WithEqualsAndHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof WithEqualsAndHashCode;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+
+  private static class EqualsOverriddenBelowHashCode extends WithEqualsAndHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj == this;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.IndexedCollections.isIndexed;
+import static org.assertj.core.internal.IndexedCollections.lookUp;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newHashSet;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.core.util.Sets.newTreeSet;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link IndexedCollections}.
+ */
+public class IndexedCollections_Test {
+
+  private final ComparisonStrategy standard = StandardComparisonStrategy.instance();
+  private final ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+
+  @Test
+  public void should_look_values_up_in_hash_sets_with_standard_comparison_strategy() {
+    Set<String> keySet = ConcurrentHashMap.newKeySet();
+    keySet.add("Luke");
+    assertThat(isIndexed(standard, newHashSet(newArrayList("Luke")))).isTrue();
+    assertThat(isIndexed(standard, newLinkedHashSet("Luke"))).isTrue();
+    assertThat(isIndexed(standard, keySet)).isTrue();
+    assertThat(lookUp(standard, newLinkedHashSet("Luke", null), "Luke")).isTrue();
+    assertThat(lookUp(standard, newLinkedHashSet("Luke", null), null)).isTrue();
+    assertThat(lookUp(standard, keySet, "Yoda")).isFalse();
+  }
+
+  @Test
+  public void should_not_look_values_up_in_collections_that_need_to_be_iterated() {
+    assertThat(isIndexed(standard, newArrayList("Luke"))).isFalse();
+    assertThat(isIndexed(caseInsensitive, newLinkedHashSet("Luke"))).isFalse();
+    assertThat(lookUp(standard, newArrayList("Luke"), "Luke")).isNull();
+  }
+
+  @Test
+  public void should_not_look_values_up_if_set_can_not_tell_they_are_contained() {
+    Set<String> keySet = ConcurrentHashMap.newKeySet();
+    // null is not supported
+    assertThat(lookUp(standard, keySet, null)).isNull();
+    // arrays are compared by content
+    assertThat(lookUp(standard, newLinkedHashSet(new Object[] { array("Luke") }), array("Luke"))).isNull();
+    // hashCode is not consistent with equals
+    assertThat(lookUp(standard, newLinkedHashSet(new Object()), new EqualsWithoutHashCode())).isNull();
+  }
+
+  @Test
+  public void should_look_values_up_in_naturally_sorted_sets_if_compareTo_is_consistent_with_equals() {
+    assertThat(lookUp(standard, newTreeSet("Luke", "Yoda"), "Yoda")).isTrue();
+    assertThat(lookUp(standard, newTreeSet("Luke", "Yoda"), 1)).isNull();
+    // 1.0 and 1.00 have the same order but are not equal
+    assertThat(lookUp(standard, newTreeSet(new BigDecimal("1.0")), new BigDecimal("1.00"))).isNull();
+  }
+
+  @Test
+  public void should_only_look_values_up_in_sorted_sets_using_the_comparison_strategy_comparator() {
+    TreeSet<String> caseInsensitiveSet = new TreeSet<>(CaseInsensitiveStringComparator.instance);
+    caseInsensitiveSet.add("Luke");
+    assertThat(isIndexed(standard, caseInsensitiveSet)).isFalse();
+    assertThat(lookUp(caseInsensitive, caseInsensitiveSet, "LUKE")).isTrue();
+    assertThat(lookUp(caseInsensitive, newTreeSet("Luke"), "LUKE")).isNull();
+  }
+
+  private static class EqualsWithoutHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode;
+    }
+  }
+}
@@ -14,6 +14,9 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.presentation.StandardRepresentation.getMaxElementsForPrinting;
+import static org.assertj.core.test.TestData.someHexInfo;
+import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
@@ -138,6 +141,63 @@ public class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  public void should_report_differences_between_large_iterables_in_encounter_order() {
+    // GIVEN
+    actual = newArrayList("A", "B", "C", "D", "E", "F", "G", "H", "I", "A", "J");
+    expected = newArrayList("J", "I", "H", "G", "X", "F", "E", "D", "C", "B", "A", "X");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly("X", "X");
+    assertThat(diff.unexpected).containsExactly("A");
+  }
+
+  @Test
+  public void should_report_differences_between_large_iterables_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    actual = newArrayList("a", "B", "c", "D", "e", "F", "g", "H", "i", "A", null, "J");
+    expected = newArrayList("j", "I", "h", "G", "x", "f", "E", "d", "C", "b", null, "a", "X");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly("x", "X");
+    assertThat(diff.unexpected).containsExactly("A");
+  }
+
+  @Test
+  public void should_return_elements_not_found_in_other_iterable_ignoring_duplicates() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    actual = newArrayList("a", "B", "c", "D", "e", "F", "g", "H", "i", "A", "A", "z");
+    expected = newArrayList("j", "I", "h", "G", "x", "f", "E", "d", "C", "b", "a");
+    // WHEN
+    List<Object> unmatched = IterableDiff.unmatched(actual, expected, comparisonStrategy, false);
+    // THEN
+    assertThat(unmatched).containsExactly("z");
+  }
+
+  @Test
+  public void should_only_retain_the_given_number_of_missing_and_unexpected_elements() {
+    // GIVEN
+    actual = newArrayList("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+    expected = newArrayList("a", "b", "c", "D", "e", "f", "g", "h", "i", "j");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy, 3);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("a", "b", "c");
+    assertThat(diff.unexpected).containsExactly("A", "B", "C");
+  }
+
+  @Test
+  public void should_retain_one_more_element_than_printed_by_the_standard_representation() {
+    assertThat(IterableDiff.maxElementsToReport(someInfo())).isEqualTo(getMaxElementsForPrinting() + 1);
+    // custom representations might print all elements
+    assertThat(IterableDiff.maxElementsToReport(someHexInfo())).isEqualTo(Integer.MAX_VALUE);
+  }
+
   private class Foo {
   }
 
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.canCompare;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.containsAll;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.containsAny;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.containsExactlyInAnyOrder;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.containsOnly;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.containsOnlyOnce;
+import static org.assertj.core.internal.PrimitiveArrayComparisons.hasDuplicates;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PrimitiveArrayComparisons}.
+ */
+public class PrimitiveArrayComparisons_Test {
+
+  private final ComparisonStrategy standard = StandardComparisonStrategy.instance();
+
+  @Test
+  public void should_only_compare_primitive_arrays_of_the_same_type_with_standard_comparison_strategy() {
+    assertThat(canCompare(standard, new int[] { 1 }, new int[] { 2 })).isTrue();
+    assertThat(canCompare(standard, new double[] { 1 })).isTrue();
+    assertThat(canCompare(standard, new int[] { 1 }, new long[] { 2 })).isFalse();
+    assertThat(canCompare(standard, new boolean[] { true })).isFalse();
+    assertThat(canCompare(standard, new Integer[] { 1 })).isFalse();
+    ComparatorBasedComparisonStrategy closeTo = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.1));
+    assertThat(canCompare(closeTo, new double[] { 1 }, new double[] { 2 })).isFalse();
+  }
+
+  @Test
+  public void should_compare_floating_point_numbers_as_their_boxed_equals() {
+    double[] actual = { 0.0, Double.NaN };
+    assertThat(containsAll(actual, new double[] { Double.NaN })).isTrue();
+    assertThat(containsAll(actual, new double[] { -0.0 })).isFalse();
+    assertThat(containsAny(new float[] { -0.0f }, new float[] { 0.0f })).isFalse();
+    assertThat(hasDuplicates(new float[] { Float.NaN, 0.0f, Float.NaN })).isTrue();
+  }
+
+  @Test
+  public void should_check_actual_contains_all_values() {
+    int[] actual = { 6, 8, 10 };
+    assertThat(containsAll(actual, new int[] { 10, 6, 10 })).isTrue();
+    assertThat(containsAll(actual, new int[] { 6, 7 })).isFalse();
+  }
+
+  @Test
+  public void should_check_actual_contains_all_values_when_there_are_many_values() {
+    long[] actual = IntStream.range(0, 5000).asLongStream().toArray();
+    long[] values = IntStream.range(0, 2000).map(i -> 4999 - 2 * i).asLongStream().toArray();
+    assertThat(containsAll(actual, values)).isTrue();
+    values[1000] = 5000;
+    assertThat(containsAll(actual, values)).isFalse();
+  }
+
+  @Test
+  public void should_check_actual_contains_only_values() {
+    char[] actual = { 'a', 'b', 'a' };
+    assertThat(containsOnly(actual, new char[] { 'b', 'a' })).isTrue();
+    assertThat(containsOnly(actual, new char[] { 'b' })).isFalse();
+    assertThat(containsOnly(actual, new char[] { 'a', 'b', 'c' })).isFalse();
+  }
+
+  @Test
+  public void should_check_actual_contains_exactly_values_in_any_order() {
+    short[] actual = { 1, 2, 1 };
+    assertThat(containsExactlyInAnyOrder(actual, new short[] { 2, 1, 1 })).isTrue();
+    assertThat(containsExactlyInAnyOrder(actual, new short[] { 2, 1 })).isFalse();
+    assertThat(containsExactlyInAnyOrder(actual, new short[] { 2, 2, 1 })).isFalse();
+  }
+
+  @Test
+  public void should_check_actual_contains_values_only_once() {
+    byte[] actual = { 1, 2, 2, 3 };
+    assertThat(containsOnlyOnce(actual, new byte[] { 3, 1 })).isTrue();
+    assertThat(containsOnlyOnce(actual, new byte[] { 1, 2 })).isFalse();
+    assertThat(containsOnlyOnce(actual, new byte[] { 4 })).isFalse();
+  }
+}
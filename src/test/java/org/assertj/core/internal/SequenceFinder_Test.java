@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.SequenceFinder.indexOfSequence;
+import static org.assertj.core.internal.SequenceFinder.prefixFunction;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SequenceFinder}.
+ */
+public class SequenceFinder_Test {
+
+  private final ComparisonStrategy standard = StandardComparisonStrategy.instance();
+
+  @Test
+  public void should_compute_longest_prefixes_that_are_also_suffixes() {
+    assertThat(prefixFunction(newArrayList("a", "b", "a", "b", "c", "a", "b", "a"), standard)).containsExactly(0, 0, 1, 2, 0,
+                                                                                                             1, 2, 3);
+  }
+
+  @Test
+  public void should_return_index_of_first_occurrence_of_sequence() {
+    List<String> actual = newArrayList("a", "b", "a", "b", "a", "b", "c", "a", "b", "a", "b", "c");
+    assertThat(indexOfSequence(actual, newArrayList("a", "b", "a", "b", "c"), standard)).isEqualTo(2);
+    assertThat(indexOfSequence(actual, newArrayList("b", "c"), standard)).isEqualTo(5);
+    assertThat(indexOfSequence(actual, newArrayList("c"), standard)).isEqualTo(6);
+    assertThat(indexOfSequence(actual, newArrayList("c", "a", "b", "a", "b", "c"), standard)).isEqualTo(6);
+  }
+
+  @Test
+  public void should_return_minus_one_if_sequence_is_not_found() {
+    List<String> actual = newArrayList("a", "a", "b", "a", "a");
+    assertThat(indexOfSequence(actual, newArrayList("a", "a", "a"), standard)).isEqualTo(-1);
+    assertThat(indexOfSequence(actual, newArrayList("a", "a", "b", "a", "a", "b"), standard)).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_find_sequence_with_null_elements() {
+    List<String> actual = newArrayList(null, "a", null, null, "a");
+    assertThat(indexOfSequence(actual, newArrayList(null, "a"), standard)).isEqualTo(0);
+    assertThat(indexOfSequence(actual, newArrayList(null, null, "a"), standard)).isEqualTo(2);
+  }
+
+  @Test
+  public void should_find_sequence_according_to_comparator() {
+    ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    List<String> actual = newArrayList("Luke", "YODA", "luke", "Leia", "LUKE", "yoda", "LEIA");
+    assertThat(indexOfSequence(actual, newArrayList("luke", "yoda", "leia"), caseInsensitive)).isEqualTo(4);
+  }
+
+  @Test
+  public void should_find_sequence_according_to_comparator_with_precision() {
+    // not transitive: 1.0 ~ 1.5 and 1.5 ~ 2.0 but 1.0 is not close to 2.0
+    ComparisonStrategy closeTo = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.5));
+    List<Double> actual = newArrayList(1.0, 2.0, 1.5, 9.0, 1.5, 1.0, 1.5, 9.0);
+    assertThat(indexOfSequence(actual, newArrayList(1.0, 1.5, 9.0), closeTo)).isEqualTo(5);
+  }
+
+  @Test
+  public void should_find_sequence_according_to_custom_tolerance_comparator() {
+    // not transitive either, the search must not skip start indexes on mismatch
+    Comparator<Double> tolerance = (d1, d2) -> Math.abs(d1 - d2) <= 0.5 ? 0 : Double.compare(d1, d2);
+    ComparisonStrategy closeTo = new ComparatorBasedComparisonStrategy(tolerance);
+    List<Double> actual = newArrayList(1.0, 2.0, 1.5, 9.0, 1.5, 1.0, 1.5, 9.0);
+    assertThat(indexOfSequence(actual, newArrayList(1.0, 1.5, 9.0), closeTo)).isEqualTo(5);
+    assertThat(indexOfSequence(newArrayList(1.0, 1.5, 2.0, 3.0), newArrayList(1.0, 1.5, 3.0), closeTo)).isEqualTo(1);
+    assertThat(indexOfSequence(newArrayList(1.0, 1.5, 1.5, 2.0), newArrayList(1.5, 2.0), closeTo)).isEqualTo(0);
+  }
+}
@@ -54,6 +54,30 @@ public class StandardComparisonStrategy_duplicatesFrom_Test extends AbstractTest
     assertThat(sizeOf(duplicates)).isEqualTo(3);
   }
 
+  @Test
+  public void should_return_duplicates_in_the_order_they_are_found() {
+    List<String> list = newArrayList("Merry", "Frodo", "Sam", "Frodo", "Merry", "Merry");
+    List<Object> duplicates = newArrayList(standardComparisonStrategy.duplicatesFrom(list));
+    assertThat(duplicates).containsExactly("Frodo", "Merry");
+  }
+
+  @Test
+  public void should_not_return_unequal_elements_with_same_hashCode() {
+    // "Aa" and "BB" have the same hashCode
+    List<Object> duplicates = newArrayList(standardComparisonStrategy.duplicatesFrom(newArrayList("Aa", "BB", "Aa", "BB",
+                                                                                                 "Aa")));
+    assertThat(duplicates).containsExactly("Aa", "BB");
+    assertThat(isNullOrEmpty(standardComparisonStrategy.duplicatesFrom(newArrayList("Aa", "BB")))).isTrue();
+  }
+
+  @Test
+  public void should_return_duplicates_of_elements_with_hashCode_inconsistent_with_equals_in_the_order_they_are_found() {
+    List<Object> list = newArrayList(new WithoutHashCode("Merry"), new WithoutHashCode("Frodo"), new WithoutHashCode("Sam"),
+                                     new WithoutHashCode("Frodo"), new WithoutHashCode("Merry"), new WithoutHashCode("Merry"));
+    List<Object> duplicates = newArrayList(standardComparisonStrategy.duplicatesFrom(list));
+    assertThat(duplicates).extracting("name").containsExactly("Frodo", "Merry");
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
@@ -72,4 +96,18 @@ public class StandardComparisonStrategy_duplicatesFrom_Test extends AbstractTest
     assertThat(isNullOrEmpty(duplicates)).isTrue();
   }
 
+  // equal instances have different identity hash codes
+  private static class WithoutHashCode {
+    private final String name;
+
+    WithoutHashCode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof WithoutHashCode && name.equals(((WithoutHashCode) obj).name);
+    }
+  }
+
 }
@@ -95,6 +95,31 @@ public class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  public void should_find_comparator_put_after_looking_it_up() {
+    // GIVEN
+    Comparator<I3> i3Comparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    assertThat(typeComparators.get(Foo.class)).isNull();
+    typeComparators.put(I3.class, i3Comparator);
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(i3Comparator);
+    // WHEN
+    typeComparators.put(Foo.class, fooComparator);
+    // THEN
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(fooComparator);
+    assertThat(typeComparators.get(Bar.class)).isEqualTo(i3Comparator);
+  }
+
+  @Test
+  public void should_describe_comparators_sorted_by_class_name() {
+    // GIVEN
+    typeComparators.put(I2.class, new NamedComparator<>("i2"));
+    typeComparators.put(Foo.class, new NamedComparator<>("foo"));
+    typeComparators.put(I1.class, new NamedComparator<>("i1"));
+    // THEN
+    assertThat(typeComparators).hasToString("{Foo -> foo, I1 -> i1, I2 -> i2}");
+  }
+
   @Test
   public void should_be_empty() {
     typeComparators.typeComparators.clear();
@@ -105,6 +130,25 @@ public class TypeComparators_Test {
     return (T o1, T o2) -> 0;
   }
 
+  private static class NamedComparator<T> implements Comparator<T> {
+
+    private final String name;
+
+    NamedComparator(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public int compare(T o1, T o2) {
+      return 0;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
   private interface I1 {
   }
 
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ValueIndex}.
+ */
+public class ValueIndex_Test {
+
+  private final int[] array = { 1, 2 };
+  private final Object unhashable = new EqualsWithoutHashCode("x");
+  private final List<Object> values = newArrayList("a", null, array, unhashable, "a", 1);
+  private final ValueIndex<Object> index = ValueIndex.index(values, identity());
+
+  @Test
+  public void should_look_values_up_like_standard_comparison_strategy() {
+    assertThat(index.containsValue("a")).isTrue();
+    assertThat(index.containsValue(null)).isTrue();
+    assertThat(index.containsValue(new int[] { 1, 2 })).isTrue();
+    assertThat(index.containsValue(new EqualsWithoutHashCode("x"))).isTrue();
+    assertThat(index.containsValue(1L)).isFalse();
+    assertThat(index.containsValue(new int[] { 2, 1 })).isFalse();
+  }
+
+  @Test
+  public void should_return_elements_with_values_in_elements_order() {
+    assertThat(index.elementsWithValueIn(1, "a", new EqualsWithoutHashCode("x"))).containsExactly("a", unhashable, "a",
+                                                                                                 1);
+    assertThat(index.elementsWithValueIn(new int[] { 1, 2 }, null)).containsExactly(null, array);
+    assertThat(index.elementsWithValueIn("b")).isEmpty();
+  }
+
+  @Test
+  public void should_return_elements_with_values_not_in_given_values_in_elements_order() {
+    assertThat(index.elementsWithValueNotIn("a", null)).containsExactly(array, unhashable, 1);
+    assertThat(index.elementsWithValueNotIn()).containsExactlyElementsOf(values);
+  }
+
+  @Test
+  public void should_compare_indexed_values_with_given_values() {
+    // GIVEN
+    Date date = new Date(1000);
+    // Date equals Timestamp with the same time but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(1000);
+    ValueIndex<Object> dateIndex = ValueIndex.index(newArrayList(date), identity());
+    // THEN
+    assertThat(dateIndex.containsValue(timestamp)).isTrue();
+    assertThat(dateIndex.elementsWithValueIn(timestamp)).containsExactly(date);
+    assertThat(dateIndex.elementsWithValueNotIn(timestamp)).isEmpty();
+  }
+
+  private static class EqualsWithoutHashCode {
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && ((EqualsWithoutHashCode) obj).value.equals(value);
+    }
+  }
+}
@@ -25,6 +25,8 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
@@ -125,6 +127,28 @@ public class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBas
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_report_each_extra_occurrence_in_encounter_order() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Luke", "Han", "Luke", "Leia", "Han", "Luke");
+    Object[] expected = { "Leia", "Luke", "Yoda", "Han", "Luke", "Yoda" };
+    try {
+      iterables.assertContainsExactlyInAnyOrder(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Yoda", "Yoda"),
+                                                                    newArrayList("Han", "Luke"),
+                                                                    StandardComparisonStrategy.instance()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_exactly_given_array_values_compared_by_content() {
+    List<String[]> arrays = newArrayList(array("Luke"), array("Yoda", "Leia"), array("Luke"));
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), arrays, array(array("Luke"), array("Luke"), array("Yoda", "Leia")));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -26,6 +26,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -133,6 +134,34 @@ public class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_array_values_only_compared_by_content() {
+    List<int[]> arrays = newArrayList(new int[] { 1, 2 }, new int[] { 3 });
+    iterables.assertContainsOnly(someInfo(), arrays, array(new int[] { 3 }, new int[] { 1, 2 }));
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_given_values_only_when_elements_do_not_override_hashCode() {
+    List<EqualsWithoutHashCode> elements = newArrayList(new EqualsWithoutHashCode("Luke"), new EqualsWithoutHashCode("Yoda"));
+    iterables.assertContainsOnly(someInfo(), elements,
+                                 array(new EqualsWithoutHashCode("Yoda"), new EqualsWithoutHashCode("Luke")));
+  }
+
+  @Test
+  public void should_report_unexpected_and_missing_values_in_encounter_order() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Luke", "Han", "Yoda", "Han", "Leia", "Chewie");
+    Object[] expected = { "Obiwan", "Luke", "Anakin", "Yoda", "Obiwan" };
+    try {
+      iterables.assertContainsOnly(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnly(actual, expected, newArrayList("Obiwan", "Anakin", "Obiwan"),
+                                                       newArrayList("Han", "Han", "Leia", "Chewie")));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -177,4 +206,17 @@ public class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  private static class EqualsWithoutHashCode {
+
+    private final String name;
+
+    EqualsWithoutHashCode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && ((EqualsWithoutHashCode) obj).name.equals(name);
+    }
+  }
 }
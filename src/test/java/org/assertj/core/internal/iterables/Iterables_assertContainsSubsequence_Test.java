@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.error.ShouldContainSubsequence.shouldContainSubsequence;
@@ -25,6 +26,8 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -143,6 +146,23 @@ public class Iterables_assertContainsSubsequence_Test extends IterablesBaseTest
     iterables.assertContainsSubsequence(someInfo(), actual, array("Yoda", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_infinite_actual_contains_subsequence() {
+    Iterable<Integer> naturalNumbers = () -> Stream.iterate(0, i -> i + 1).iterator();
+    iterables.assertContainsSubsequence(someInfo(), naturalNumbers, array(5, 50, 500));
+  }
+
+  @Test
+  public void should_iterate_actual_only_once() {
+    AtomicInteger iterations = new AtomicInteger();
+    Iterable<String> countingIterations = () -> {
+      iterations.incrementAndGet();
+      return actual.iterator();
+    };
+    iterables.assertContainsSubsequence(someInfo(), countingIterations, array("Yoda", "Leia"));
+    assertThat(iterations).hasValue(1);
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -26,6 +27,8 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
@@ -109,6 +112,17 @@ public class Iterables_assertDoesNotContainSubsequence_Test extends IterablesBas
     expectFailure(iterables, actual, subsequence, 0);
   }
 
+  @Test
+  public void should_iterate_actual_only_once() {
+    AtomicInteger iterations = new AtomicInteger();
+    Iterable<String> countingIterations = () -> {
+      iterations.incrementAndGet();
+      return actual.iterator();
+    };
+    iterables.assertDoesNotContainSubsequence(someInfo(), countingIterations, array("Leia", "Luke"));
+    assertThat(iterations).hasValue(1);
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal.objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class Objects_getDeclaredFieldsIncludingInherited_Test {
+
+  @Test
+  public void should_return_declared_and_inherited_fields_except_static_ones() {
+    // WHEN
+    Set<Field> fields = getDeclaredFieldsIncludingInherited(Child.class);
+    // THEN
+    assertThat(fields).extracting(Field::getName).containsExactly("name", "id");
+  }
+
+  @Test
+  public void should_return_a_new_modifiable_set_for_each_call() {
+    // GIVEN
+    Set<Field> fields = getDeclaredFieldsIncludingInherited(Child.class);
+    // WHEN
+    fields.clear();
+    // THEN
+    assertThat(getDeclaredFieldsIncludingInherited(Child.class)).isNotSameAs(fields)
+                                                               .extracting(Field::getName)
+                                                               .containsExactly("name", "id");
+  }
+
+  @SuppressWarnings("unused")
+  private static class Parent {
+    private static final long serialVersionUID = 1L;
+    private long id;
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Parent {
+    private static int count;
+    private String name;
+  }
+}
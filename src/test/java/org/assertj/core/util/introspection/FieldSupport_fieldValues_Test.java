@@ -108,6 +108,18 @@ public class FieldSupport_fieldValues_Test {
     }
   }
 
+  @Test
+  public void should_honor_allowExtractingPrivateFields_set_to_false_after_field_was_extracted() {
+    assertThat(fieldSupport.fieldValue("age", Integer.class, yoda)).isEqualTo(800);
+    FieldSupport.EXTRACTION.setAllowUsingPrivateFields(false);
+    try {
+      assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> fieldSupport.fieldValue("age", Integer.class,
+                                                                                                   yoda));
+    } finally { // back to default value
+      FieldSupport.EXTRACTION.setAllowUsingPrivateFields(true);
+    }
+  }
+
   @Test
   public void should_extract_field() {
     Long id = fieldSupport.fieldValue("id", Long.class, yoda);
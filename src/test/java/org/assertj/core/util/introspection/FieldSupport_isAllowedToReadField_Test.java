@@ -41,4 +41,20 @@ public class FieldSupport_isAllowedToReadField_Test {
     assertThat(fieldSupport.isAllowedToRead(Jedi.class.getDeclaredField("strangeNotReadablePrivateField"))).isTrue();
   }
 
+  @Test
+  public void fieldSupport_should_only_be_able_to_read_existing_fields_allowed_to_be_read() {
+    Jedi yoda = new Jedi("Yoda", "Green");
+    assertThat(fieldSupport.canReadField("lightSaberColor", yoda)).isTrue();
+    assertThat(fieldSupport.canReadField("strangeNotReadablePrivateField", yoda)).isTrue();
+    assertThat(fieldSupport.canReadField("unknown", yoda)).isFalse();
+    fieldSupport.setAllowUsingPrivateFields(false);
+    try {
+      assertThat(fieldSupport.canReadField("lightSaberColor", yoda)).isTrue();
+      assertThat(fieldSupport.canReadField("strangeNotReadablePrivateField", yoda)).isFalse();
+    } finally {
+      // reset
+      fieldSupport.setAllowUsingPrivateFields(true);
+    }
+  }
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandle;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MemberAccessors}.
+ */
+public class MemberAccessors_Test {
+
+  @Test
+  public void should_compile_getter_to_handle() throws Throwable {
+    MethodHandle getter = MemberAccessors.getterHandle(Jedi.class.getMethod("getName"));
+    assertThat((Object) getter.invokeExact((Object) new Jedi("Luke"))).isEqualTo("Luke");
+    assertThat(MemberAccessors.getterHandle(Jedi.class.getMethod("getName"))).isSameAs(getter);
+  }
+
+  @Test
+  public void should_ignore_target_of_static_members() throws Throwable {
+    MethodHandle getter = MemberAccessors.getterHandle(Jedi.class.getMethod("getOrder"));
+    assertThat((Object) getter.invokeExact((Object) new Jedi("Luke"))).isEqualTo("Jedi");
+    MethodHandle field = MemberAccessors.fieldHandle(Jedi.class.getField("ORDER"));
+    assertThat((Object) field.invokeExact((Object) null)).isEqualTo("Jedi");
+  }
+
+  @Test
+  public void should_compile_field_to_handle() throws Throwable {
+    MethodHandle field = MemberAccessors.fieldHandle(Jedi.class.getField("name"));
+    assertThat((Object) field.invokeExact((Object) new Jedi("Yoda"))).isEqualTo("Yoda");
+  }
+
+  public static class Jedi {
+    public static final String ORDER = "Jedi";
+    public final String name;
+
+    Jedi(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public static String getOrder() {
+      return ORDER;
+    }
+  }
+}
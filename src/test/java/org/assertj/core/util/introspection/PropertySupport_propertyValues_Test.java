@@ -16,8 +16,10 @@ import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.List;
 
@@ -136,4 +138,30 @@ public class PropertySupport_propertyValues_Test {
                                                                                                            Employee.class);
   }
 
+  @Test
+  public void should_report_exception_thrown_by_getter_as_failure_to_obtain_property_value() {
+    // GIVEN
+    Object target = new Failing();
+    // WHEN
+    Throwable error = catchThrowable(() -> PropertySupport.instance().propertyValue("value", String.class, target));
+    // THEN
+    assertThat(error).isInstanceOf(IntrospectionError.class)
+                     .hasMessage("Unable to obtain the value of the property <'value'> from <Failing>")
+                     .hasCauseInstanceOf(InvocationTargetException.class);
+    assertThat(error.getCause().getCause()).isInstanceOf(ClassCastException.class)
+                                           .hasMessage("thrown by getter");
+  }
+
+  public static class Failing {
+
+    public String getValue() {
+      throw new ClassCastException("thrown by getter");
+    }
+
+    @Override
+    public String toString() {
+      return "Failing";
+    }
+  }
+
 }